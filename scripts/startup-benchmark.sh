@@ -0,0 +1,69 @@
+#!/usr/bin/env bash
+# 기동 시간 측정: 프로세스 시작부터 첫 /api/v2/members 200 응답까지 (ms)
+#
+# usage: startup-benchmark.sh <boot jar> <modes> <report dir>
+#   modes (콤마 구분)
+#   - default : java -jar
+#   - lazy    : spring.main.lazy-initialization=true
+#   - aot     : -Dspring.aot.enabled=true (AOT 처리된 jar 가 필요하다. org.graalvm.buildtools.native 플러그인 + bootJar)
+#   - cds     : 압축을 푼 클래스패스로 학습 실행(-XX:ArchiveClassesAtExit) 후 -XX:SharedArchiveFile 로 실행
+# 데이터소스는 메모리 H2 를 쓰고, 합성 데이터는 비동기이므로 측정값에 포함되지 않는다.
+set -euo pipefail
+
+JAR=${1:?boot jar}
+MODES=${2:-default,lazy}
+REPORT_DIR=${3:-build/reports/startup}
+PORT=${PORT:-18080}
+RUNS=${RUNS:-3}
+URL="http://localhost:${PORT}/api/v2/members"
+APP_ARGS=(--server.port="${PORT}" --spring.datasource.url=jdbc:h2:mem:bench --logging.level.org.hibernate.SQL=warn)
+
+mkdir -p "${REPORT_DIR}"
+REPORT="${REPORT_DIR}/startup.csv"
+[ -f "${REPORT}" ] || echo "timestamp,git,mode,run,millis" > "${REPORT}"
+GIT_REV=$(git rev-parse --short HEAD 2>/dev/null || echo unknown)
+
+now_ms() { date +%s%3N; }
+
+measure() {
+  local mode=$1 run=$2; shift 2
+  local start pid elapsed
+  start=$(now_ms)
+  "$@" > "${REPORT_DIR}/${mode}-${run}.log" 2>&1 &
+  pid=$!
+  until curl -sf -o /dev/null "${URL}"; do
+    if ! kill -0 "${pid}" 2>/dev/null; then
+      echo "${mode}: application exited, see ${REPORT_DIR}/${mode}-${run}.log" >&2
+      return 1
+    fi
+    sleep 0.05
+  done
+  elapsed=$(( $(now_ms) - start ))
+  kill "${pid}"; wait "${pid}" 2>/dev/null || true
+  echo "$(date -u +%FT%TZ),${GIT_REV},${mode},${run},${elapsed}" >> "${REPORT}"
+  echo "${mode} #${run}: ${elapsed} ms"
+}
+
+prepare_cds() {
+  CDS_DIR="${REPORT_DIR}/cds"
+  rm -rf "${CDS_DIR}" && mkdir -p "${CDS_DIR}"
+  (cd "${CDS_DIR}" && jar -xf "$(realpath "${JAR}")")
+  CDS_CP="${CDS_DIR}/BOOT-INF/classes:$(ls "${CDS_DIR}"/BOOT-INF/lib/*.jar | tr '\n' ':')"
+  # 학습 실행: 컨텍스트 refresh 직후 종료하면서 로딩된 클래스를 아카이브로 남긴다.
+  java -XX:ArchiveClassesAtExit="${CDS_DIR}/app.jsa" -Dspring.context.exit=onRefresh \
+    -cp "${CDS_CP}" jpabook.jpashop.Application "${APP_ARGS[@]}" > "${CDS_DIR}/training.log" 2>&1 || true
+}
+
+IFS=',' read -ra MODE_LIST <<< "${MODES}"
+for mode in "${MODE_LIST[@]}"; do
+  [ "${mode}" = "cds" ] && prepare_cds
+  for run in $(seq 1 "${RUNS}"); do
+    case "${mode}" in
+      default) measure "${mode}" "${run}" java -jar "${JAR}" "${APP_ARGS[@]}" ;;
+      lazy)    measure "${mode}" "${run}" java -jar "${JAR}" --spring.main.lazy-initialization=true "${APP_ARGS[@]}" ;;
+      aot)     measure "${mode}" "${run}" java -Dspring.aot.enabled=true -jar "${JAR}" "${APP_ARGS[@]}" ;;
+      cds)     measure "${mode}" "${run}" java -XX:SharedArchiveFile="${CDS_DIR}/app.jsa" -cp "${CDS_CP}" jpabook.jpashop.Application "${APP_ARGS[@]}" ;;
+      *)       echo "unknown mode: ${mode}" >&2; exit 1 ;;
+    esac
+  done
+done
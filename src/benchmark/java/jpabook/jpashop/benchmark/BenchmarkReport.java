@@ -0,0 +1,50 @@
+package jpabook.jpashop.benchmark;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 측정값을 출력하고 build/reports/benchmark/benchmark.csv 에 누적한다. (./gradlew benchmark)
+ * 같은 장비에서 커밋 사이의 변화를 비교하는 용도이며, 절대값은 장비마다 다르다.
+ */
+public final class BenchmarkReport {
+
+    private static final String HEADER = "timestamp,benchmark,case,count,millis,ops_per_sec";
+
+    private BenchmarkReport() {
+    }
+
+    /**
+     * count 건을 elapsedNanos 동안 처리한 처리량을 기록하고 초당 처리 건수를 반환한다.
+     */
+    public static long record(String benchmark, String name, long count, long elapsedNanos) {
+        long opsPerSecond = count * TimeUnit.SECONDS.toNanos(1) / Math.max(1, elapsedNanos);
+        long millis = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        System.out.println(benchmark + " " + name + " = " + opsPerSecond + " ops/s (" + count + " in " + millis + " ms)");
+        append(String.join(",", LocalDateTime.now().toString(), benchmark, name,
+                String.valueOf(count), String.valueOf(millis), String.valueOf(opsPerSecond)));
+        return opsPerSecond;
+    }
+
+    private static synchronized void append(String line) {
+        String dir = System.getProperty("benchmark.report.dir");
+        if (dir == null) {
+            return;
+        }
+        try {
+            Path report = Path.of(dir, "benchmark.csv");
+            Files.createDirectories(report.getParent());
+            if (Files.notExists(report)) {
+                Files.writeString(report, HEADER + System.lineSeparator());
+            }
+            Files.writeString(report, line + System.lineSeparator(), StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
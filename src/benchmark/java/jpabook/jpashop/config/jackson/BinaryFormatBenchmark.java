@@ -0,0 +1,50 @@
+package jpabook.jpashop.config.jackson;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jpabook.jpashop.benchmark.BenchmarkReport;
+import jpabook.jpashop.repository.order.query.OrderQueryDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+import java.util.List;
+
+/**
+ * JSON / CBOR / Smile 직렬화 처리량과 응답 크기 (/api/v5/orders 응답과 같은 DTO)
+ */
+@SpringBootTest
+class BinaryFormatBenchmark {
+
+    private static final int ORDERS = 1000;
+    private static final int ROUNDS = 50;
+
+    @Autowired
+    ObjectMapper objectMapper;
+    @Autowired
+    MappingJackson2CborHttpMessageConverter cborConverter;
+    @Autowired
+    MappingJackson2SmileHttpMessageConverter smileConverter;
+
+    @Test
+    void serialization_throughput() throws Exception {
+        List<OrderQueryDto> orders = BinaryFormatNegotiationTest.createOrders(ORDERS);
+
+        measure("json", objectMapper, orders);
+        measure("cbor", cborConverter.getObjectMapper(), orders);
+        measure("smile", smileConverter.getObjectMapper(), orders);
+    }
+
+    private static void measure(String format, ObjectMapper mapper, List<OrderQueryDto> orders) throws Exception {
+        int bytes = mapper.writeValueAsBytes(orders).length; // warm up
+        long start = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            mapper.writeValueAsBytes(orders);
+        }
+        long elapsed = System.nanoTime() - start;
+
+        BenchmarkReport.record("serialization", format, (long) ROUNDS * ORDERS, elapsed);
+        System.out.println(format + " = " + bytes + " bytes / " + ORDERS + " orders");
+    }
+}
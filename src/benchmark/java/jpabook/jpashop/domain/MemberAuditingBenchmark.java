@@ -0,0 +1,38 @@
+package jpabook.jpashop.domain;
+
+import jakarta.persistence.EntityManager;
+import jpabook.jpashop.benchmark.BenchmarkReport;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 작성자 auditing 이 켜진 상태의 대량 persist 처리량 (CachedAuditorAware)
+ */
+@SpringBootTest
+@Transactional
+class MemberAuditingBenchmark {
+
+    @Autowired
+    EntityManager em;
+
+    @Test
+    void bulkPersist_auditing_throughput() {
+        int count = 5000;
+
+        long start = System.nanoTime();
+        for (int i = 0; i < count; i++) {
+            em.persist(new Member("bench-audit-" + i));
+            if ((i + 1) % 500 == 0) {
+                em.flush();
+                em.clear();
+            }
+        }
+        em.flush();
+        em.clear();
+        long elapsed = System.nanoTime() - start;
+
+        BenchmarkReport.record("bulkPersist", "auditing", count, elapsed);
+    }
+}
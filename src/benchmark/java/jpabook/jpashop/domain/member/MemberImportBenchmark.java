@@ -0,0 +1,57 @@
+package jpabook.jpashop.domain.member;
+
+import jpabook.jpashop.benchmark.BenchmarkReport;
+import jpabook.jpashop.service.MemberImportService;
+import jpabook.jpashop.service.dto.MemberImportResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * JSON 일괄 등록 처리량 (batch 단위로 커밋하므로 트랜잭션 없이 실행하고 만든 이름만 정리한다.)
+ */
+@SpringBootTest
+class MemberImportBenchmark {
+
+    @Autowired MemberImportService memberImportService;
+    @Autowired JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void after() {
+        jdbcTemplate.update("delete from member where username like 'bench-import-%'");
+    }
+
+    @Test
+    void importJson_throughput() {
+        // given
+        int count = 20_000;
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"name\":\"bench-import-").append(i).append("\",\"age\":").append(i % 80).append('}');
+        }
+        json.append(']');
+
+        // when
+        long start = System.nanoTime();
+        MemberImportResult result = memberImportService.importJson(
+                new ByteArrayInputStream(json.toString().getBytes(StandardCharsets.UTF_8)));
+        long elapsed = System.nanoTime() - start;
+
+        // then
+        BenchmarkReport.record("memberImport", "json", count, elapsed);
+        assertThat(result.getCreated()).isEqualTo(count);
+        assertThat(jdbcTemplate.queryForObject(
+                "select count(*) from member where username like 'bench-import-%'", Long.class))
+                .isEqualTo(count);
+    }
+}
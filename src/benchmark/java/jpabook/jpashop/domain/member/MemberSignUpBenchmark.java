@@ -0,0 +1,49 @@
+package jpabook.jpashop.domain.member;
+
+import jpabook.jpashop.benchmark.BenchmarkReport;
+import jpabook.jpashop.domain.Member;
+import jpabook.jpashop.repository.member.MemberRepository;
+import jpabook.jpashop.service.MemberNameFilter;
+import jpabook.jpashop.service.MemberService;
+import jpabook.jpashop.service.MemberServiceImpl;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 가입 처리량 비교 (필터 없음 = 매번 existsByName, 필터 있음 = 새 이름은 조회 생략)
+ */
+@Transactional
+@SpringBootTest
+class MemberSignUpBenchmark {
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Test
+    void signUp_throughput() {
+        int count = 2000;
+        long before = memberRepository.count();
+        MemberNameFilter disabled = new MemberNameFilter(memberRepository, false, count * 2, 0.01);
+        MemberNameFilter enabled = new MemberNameFilter(memberRepository, true, count * 2, 0.01);
+        enabled.warmUp();
+
+        long withoutFilter = signUpNanos(new MemberServiceImpl(memberRepository, disabled), "bench-before-", count);
+        long withFilter = signUpNanos(new MemberServiceImpl(memberRepository, enabled), "bench-after-", count);
+
+        BenchmarkReport.record("signUp", "without filter", count, withoutFilter);
+        BenchmarkReport.record("signUp", "with filter", count, withFilter);
+        assertThat(memberRepository.count()).isEqualTo(before + count * 2L);
+    }
+
+    private long signUpNanos(MemberService service, String prefix, int count) {
+        long start = System.nanoTime();
+        for (int i = 0; i < count; i++) {
+            service.signUp(Member.builder().name(prefix + i).build());
+        }
+        return System.nanoTime() - start;
+    }
+}
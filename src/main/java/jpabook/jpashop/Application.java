@@ -1,14 +1,12 @@
 package jpabook.jpashop;
 
+import jpabook.jpashop.config.CachedAuditorAware;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.annotation.Bean;
 import org.springframework.data.domain.AuditorAware;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 
-import java.util.Optional;
-import java.util.UUID;
-
 @EnableJpaAuditing
 @SpringBootApplication
 public class Application {
@@ -19,7 +17,7 @@ public class Application {
 
     @Bean
     public AuditorAware<String> auditorProvider() {
-        // Security Context holder -> session ID
-        return () -> Optional.of(UUID.randomUUID().toString());
+        // Security Context holder -> session ID (요청 / 트랜잭션 당 한 번만 만든다.)
+        return new CachedAuditorAware();
     }
 }
@@ -0,0 +1,20 @@
+package jpabook.jpashop.api;
+
+import jpabook.jpashop.exception.UnsupportedParameterException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * 컨트롤러 공통 예외 응답
+ * - 지원하지 않는 요청 파라미터 값은 서버 오류(500)가 아니라 클라이언트 오류(400)로 돌려준다.
+ */
+@RestControllerAdvice
+public class ApiExceptionAdvice {
+
+    @ExceptionHandler(UnsupportedParameterException.class)
+    public ProblemDetail unsupportedParameter(UnsupportedParameterException e) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, e.getMessage());
+    }
+}
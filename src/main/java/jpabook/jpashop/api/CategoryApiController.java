@@ -0,0 +1,47 @@
+package jpabook.jpashop.api;
+
+import jpabook.jpashop.repository.dto.ItemSummary;
+import jpabook.jpashop.service.CategoryService;
+import jpabook.jpashop.service.dto.CategoryTree;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+@RestController
+@RequiredArgsConstructor
+public class CategoryApiController {
+
+    private final CategoryService categoryService;
+
+    @GetMapping("/api/v1/categories/tree")
+    public CategoryTree tree() {
+        return categoryService.getMenuTree();
+    }
+
+    @GetMapping("/api/v1/categories/{id}/items")
+    public Page<ItemSummary> items(
+            @PathVariable("id") Long id,
+            @RequestParam(value = "includeDescendants", defaultValue = "false") boolean includeDescendants,
+            @PageableDefault(size = 20) Pageable pageable) {
+        return categoryService.findItemsByCategory(id, includeDescendants, pageable);
+    }
+
+    @GetMapping("/api/v1/categories/item-counts")
+    public Map<Long, Long> itemCounts() {
+        return categoryService.countItemsPerCategory();
+    }
+
+    @PostMapping("/api/v1/categories/{id}/items/{itemId}")
+    public void linkItem(@PathVariable("id") Long id, @PathVariable("itemId") Long itemId) {
+        categoryService.linkItem(id, itemId);
+    }
+
+    @DeleteMapping("/api/v1/categories/{id}/items/{itemId}")
+    public void unlinkItem(@PathVariable("id") Long id, @PathVariable("itemId") Long itemId) {
+        categoryService.unlinkItem(id, itemId);
+    }
+}
@@ -0,0 +1,31 @@
+package jpabook.jpashop.api;
+
+import jpabook.jpashop.service.ItemService;
+import jpabook.jpashop.service.dto.ItemImportResult;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.InputStream;
+
+/**
+ * 공급사 가격/재고 피드 일괄 반영
+ * 요청 본문을 스트림으로 읽으므로 대용량 피드도 메모리에 한 번에 올리지 않는다.
+ */
+@RestController
+@RequiredArgsConstructor
+public class ItemImportApiController {
+
+    private final ItemService itemService;
+
+    @PostMapping(value = "/api/v1/items/import", consumes = "text/csv")
+    public ItemImportResult importCsv(InputStream body) {
+        return itemService.importPriceAndStockCsv(body);
+    }
+
+    @PostMapping(value = "/api/v1/items/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ItemImportResult importJson(InputStream body) {
+        return itemService.importPriceAndStockJson(body);
+    }
+}
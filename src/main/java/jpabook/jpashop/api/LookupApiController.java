@@ -0,0 +1,46 @@
+package jpabook.jpashop.api;
+
+import jpabook.jpashop.repository.ItemRepository;
+import jpabook.jpashop.repository.dto.ItemSummary;
+import jpabook.jpashop.repository.member.MemberRepository;
+import jpabook.jpashop.repository.member.dto.MemberSummary;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * 주문 화면 typeahead 용 조회 API
+ * 전체 목록 대신 이름 prefix 에 맞는 상위 N 건만 내려주므로 회원/상품 수와 무관하게 응답 크기가 일정하다.
+ */
+@RestController
+@RequiredArgsConstructor
+public class LookupApiController {
+
+    private static final int MAX_LIMIT = 50;
+
+    private final MemberRepository memberRepository;
+    private final ItemRepository itemRepository;
+
+    @GetMapping("/api/lookup/members")
+    public List<MemberSummary> lookupMembers(
+            @RequestParam(value = "prefix", defaultValue = "") String prefix,
+            @RequestParam(value = "limit", defaultValue = "20") int limit) {
+        return memberRepository.findSummariesByNamePrefix(prefix.trim(), topN(limit));
+    }
+
+    @GetMapping("/api/lookup/items")
+    public List<ItemSummary> lookupItems(
+            @RequestParam(value = "prefix", defaultValue = "") String prefix,
+            @RequestParam(value = "limit", defaultValue = "20") int limit) {
+        return itemRepository.findSummariesByNamePrefix(prefix.trim(), topN(limit));
+    }
+
+    private static Pageable topN(int limit) {
+        return PageRequest.of(0, Math.max(1, Math.min(limit, MAX_LIMIT)));
+    }
+}
@@ -2,19 +2,26 @@ package jpabook.jpashop.api;
 
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotEmpty;
+import jpabook.jpashop.config.ConditionalGet;
+import jpabook.jpashop.config.jackson.LazyAssociations;
+import jpabook.jpashop.config.jackson.LazyAssociations.Mode;
 import jpabook.jpashop.domain.Address;
 import jpabook.jpashop.domain.Member;
+import jpabook.jpashop.repository.dto.ResourceVersion;
 import jpabook.jpashop.repository.member.MemberQuerydslRepository;
 import jpabook.jpashop.repository.member.MemberRepository;
 import jpabook.jpashop.repository.member.dto.MemberSearchCondition;
 import jpabook.jpashop.repository.member.dto.MemberTeamDto;
+import jpabook.jpashop.repository.support.SparseFields;
 import jpabook.jpashop.service.MemberService;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.converter.json.MappingJacksonValue;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
 
 import java.util.List;
 
@@ -25,7 +32,9 @@ public class MemberApiController {
     private final MemberService memberService;
     private final MemberRepository memberRepository;
     private final MemberQuerydslRepository memberQuerydslRepository;
+    private final ConditionalGet conditionalGet;
 
+    @LazyAssociations(Mode.ID) // team 은 {"id": ...} 로만 내려간다.
     @GetMapping("/api/v1/members")
     public List<Member> findMembersV1() {
         return memberRepository.findAll();
@@ -33,15 +42,23 @@ public class MemberApiController {
 
     @GetMapping("/api/v2/members")
     public Result findMembersV2() {
-        List<MemberDto> collect = memberRepository.findAll()
+        List<MemberDto> collect = memberService.findMemberSummaries()
                 .stream()
                 .map(m -> new MemberDto(m.getName()))
                 .toList();
         return new Result<>(collect.size(), collect);
     }
 
+    /**
+     * 조건부 GET: lastModifiedDate 만 먼저 조회해 바뀌지 않았으면 304 (엔티티 조회 / 직렬화 생략)
+     */
     @GetMapping("/api/v1/member/{id}")
-    public FindMemberResponse findMemberV1(@PathVariable("id") Long id) {
+    public FindMemberResponse findMemberV1(@PathVariable("id") Long id, NativeWebRequest request) {
+        ResourceVersion version = memberRepository.findVersionById(id)
+                .orElseThrow(() -> new IllegalArgumentException("not found: " + id));
+        if (conditionalGet.notModified(request, version)) {
+            return null;
+        }
         Member findMember = memberRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("not found: " + id));
         return new FindMemberResponse(findMember.getId(), findMember.getName(), findMember.getAddress());
@@ -80,14 +97,35 @@ public class MemberApiController {
         return memberRepository.search(cond);
     }
 
+    /**
+     * 검색 결과의 max(lastModifiedDate) + count 로 버전을 확인하고 바뀌지 않았으면 304
+     */
     @GetMapping("/api/v2/search")
-    public Page<MemberTeamDto> searchV2(MemberSearchCondition cond, Pageable pageable) {
+    public Page<MemberTeamDto> searchV2(MemberSearchCondition cond, Pageable pageable, NativeWebRequest request) {
+        ResourceVersion version = memberRepository.findVersion(cond);
+        if (conditionalGet.notModified(request, version)) {
+            return null;
+        }
         return memberRepository.searchSimple(cond, pageable);
     }
 
+    /**
+     * fields=name,teamName 처럼 필요한 필드만 요청하면 select 절과 team 조인도 그만큼 줄어든다.
+     * 필드를 지정하면 지정한 필드만 응답에 쓰고, 지정하지 않으면 V2 와 같은 모양으로 응답한다.
+     * V2 와 같은 조건부 GET 을 적용한다.
+     */
     @GetMapping("/api/v3/search")
-    public Page<MemberTeamDto> searchV3(MemberSearchCondition cond, Pageable pageable) {
-        return memberRepository.searchComplex(cond, pageable);
+    public MappingJacksonValue searchV3(MemberSearchCondition cond, Pageable pageable,
+                                        @RequestParam(value = "fields", required = false) String fields,
+                                        NativeWebRequest request) {
+        SparseFields sparseFields = SparseFields.parse(fields, MemberTeamDto.FIELDS);
+        ResourceVersion version = memberRepository.findVersion(cond);
+        if (conditionalGet.notModified(request, version)) {
+            return null;
+        }
+        MappingJacksonValue body = new MappingJacksonValue(memberRepository.searchComplex(cond, pageable, sparseFields));
+        body.setFilters(sparseFields.filters());
+        return body;
     }
 
     @Data
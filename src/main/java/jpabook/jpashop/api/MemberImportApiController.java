@@ -0,0 +1,31 @@
+package jpabook.jpashop.api;
+
+import jpabook.jpashop.service.MemberImportService;
+import jpabook.jpashop.service.dto.MemberImportResult;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.InputStream;
+
+/**
+ * 제휴사 회원 일괄 등록
+ * 요청 본문을 스트림으로 읽고, 행별 결과(CREATED / DUPLICATE / INVALID / FAILED)를 입력 순서대로 반환한다.
+ */
+@RestController
+@RequiredArgsConstructor
+public class MemberImportApiController {
+
+    private final MemberImportService memberImportService;
+
+    @PostMapping(value = "/api/v1/members/import", consumes = "text/csv")
+    public MemberImportResult importCsv(InputStream body) {
+        return memberImportService.importCsv(body);
+    }
+
+    @PostMapping(value = "/api/v1/members/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public MemberImportResult importJson(InputStream body) {
+        return memberImportService.importJson(body);
+    }
+}
@@ -1,24 +1,27 @@
 package jpabook.jpashop.api;
 
+import jpabook.jpashop.config.jackson.LazyAssociations;
+import jpabook.jpashop.config.jackson.LazyAssociations.Mode;
 import jpabook.jpashop.domain.*;
+import jpabook.jpashop.repository.order.OrderFetchPlan;
 import jpabook.jpashop.repository.order.OrderRepository;
-import jpabook.jpashop.repository.order.query.OrderFlatDto;
-import jpabook.jpashop.repository.order.query.OrderItemQueryDto;
 import jpabook.jpashop.repository.order.query.OrderQueryDto;
 import jpabook.jpashop.repository.order.query.OrderQueryRepository;
 import jpabook.jpashop.repository.order.simplequery.OrderSimpleQueryRepository;
+import jpabook.jpashop.repository.support.SparseFields;
 import jpabook.jpashop.service.OrderService;
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.converter.json.MappingJacksonValue;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Map;
-import java.util.Set;
-import java.util.stream.Collectors;
 
 @RestController
 @RequiredArgsConstructor
@@ -29,6 +32,7 @@ public class OrderApiController {
     private final OrderQueryRepository orderQueryRepository;
     private final OrderSimpleQueryRepository orderSimpleQueryRepository;
 
+    @LazyAssociations(Mode.ID)
     @GetMapping("/api/v1/orders")
     public List<Order> ordersV1() {
         List<Order> orders = orderService.searchOrders(new OrderSearch());
@@ -77,6 +81,20 @@ public class OrderApiController {
                 .toList();
     }
 
+    /**
+     * 호출마다 fetch plan 을 선택한다. (summary, withItems, full)
+     * ToOne 은 엔티티 그래프로, 컬렉션은 batch fetch 로 조회하므로 페이징이 가능하다.
+     * summary 는 orderItems 를 로딩하지 않으므로 응답에서도 제외한다.
+     */
+    @GetMapping("/api/v3.2/orders")
+    public Page<OrderDto> ordersV3_plan(
+            @RequestParam(value = "plan", defaultValue = "summary") String plan,
+            @PageableDefault(size = 100) Pageable pageable) {
+        OrderFetchPlan fetchPlan = OrderFetchPlan.of(plan);
+        return orderService.findOrders(fetchPlan, pageable)
+                .map(o -> new OrderDto(o, fetchPlan.isLoadItems()));
+    }
+
     /**
      * JPA 에서 DTO 를 직접 조회한다.
      * ToOne 관계는 join 쿼리로 바로 조회 후, 컬렉션 n 개수 만큼 쿼리를 조회하여 채운다. (N + 1 문제 유사?)
@@ -91,12 +109,19 @@ public class OrderApiController {
     /**
      * V4 의 문제점을 개선
      * 일대다 관계인 컬렉션은 IN 절을 활용하여 메모리에 미리 조회하여 최적화한다.
+     * fields=orderId,orderStatus 처럼 필요한 필드만 요청하면 select 절과 조인도 그만큼 줄어든다.
+     * 필드를 지정하면 지정한 필드만 응답에 쓰고, 지정하지 않으면 V4 와 같은 모양으로 응답한다.
      */
     @GetMapping("/api/v5/orders")
-    public List<OrderQueryDto> ordersV5(
+    public MappingJacksonValue ordersV5(
             @RequestParam(value = "offset", defaultValue = "0") int offset,
-            @RequestParam(value = "limit", defaultValue = "100") int limit) {
-        return orderQueryRepository.findAllByDtoOptimization(offset, limit);
+            @RequestParam(value = "limit", defaultValue = "100") int limit,
+            @RequestParam(value = "fields", required = false) String fields) {
+        SparseFields sparseFields = SparseFields.parse(fields, OrderQueryDto.FIELDS);
+        MappingJacksonValue body = new MappingJacksonValue(
+                orderQueryRepository.findAllByDtoOptimization(offset, limit, sparseFields));
+        body.setFilters(sparseFields.filters());
+        return body;
     }
 
     /**
@@ -104,25 +129,13 @@ public class OrderApiController {
      * join 으로 인한 중복 데이터를 애플리케이션 단계에서 걸러내는 방법이다.
      * 쿼리가 1번 발생되지만 중복 데이터가 추가되므로 상황에 따라 V5보다 더 느려질 수도 있다.
      * 또한 페이징이 불가능
+     * order id 순으로 정렬된 row 를 한 번 순회하며 묶으므로 groupingBy 용 임시 DTO 를 만들지 않는다.
      */
     @GetMapping("/api/v6/orders")
     public List<OrderQueryDto> ordersV6(
             @RequestParam(value = "offset", defaultValue = "0") int offset,
             @RequestParam(value = "limit", defaultValue = "100") int limit) {
-
-        List<OrderFlatDto> flats = orderQueryRepository.findAllByDtoFlat(offset, limit);
-
-        Map<OrderQueryDto, List<OrderItemQueryDto>> collect = flats.stream()
-                .collect(Collectors.groupingBy(o -> new OrderQueryDto(o.getOrderId(), o.getName(), o.getOrderDate(), o.getOrderStatus(), o.getAddress()),
-                        Collectors.mapping(o -> new OrderItemQueryDto(o.getOrderId(), o.getItemName(), o.getOrderPrice(), o.getCount()),
-                                Collectors.toList())));
-
-        Set<Map.Entry<OrderQueryDto, List<OrderItemQueryDto>>> entries = collect.entrySet();
-
-        return entries.stream()
-                .map(e -> new OrderQueryDto(
-                        e.getKey().getOrderId(), e.getKey().getName(), e.getKey().getOrderDate(), e.getKey().getOrderStatus(), e.getKey().getAddress(), e.getValue()))
-                .toList();
+        return orderQueryRepository.findAllByDtoFlatGrouped(offset, limit);
     }
 
     @Data
@@ -135,14 +148,20 @@ public class OrderApiController {
         private List<OrderItemDto> orderItems;
 
         public OrderDto(Order order) {
+            this(order, true);
+        }
+
+        public OrderDto(Order order, boolean includeItems) {
             this.orderId = order.getId();
             this.name = order.getMember().getName();
             this.orderDate = order.getOrderDate();
             this.orderStatus = order.getStatus();
             this.address = order.getDelivery().getAddress();
-            this.orderItems = order.getOrderItems().stream()
-                    .map(OrderItemDto::new)
-                    .toList();
+            if (includeItems) {
+                this.orderItems = order.getOrderItems().stream()
+                        .map(OrderItemDto::new)
+                        .toList();
+            }
         }
     }
 
@@ -1,17 +1,24 @@
 package jpabook.jpashop.api;
 
+import jpabook.jpashop.config.jackson.LazyAssociations;
+import jpabook.jpashop.config.jackson.LazyAssociations.Mode;
 import jpabook.jpashop.domain.Address;
 import jpabook.jpashop.domain.Order;
 import jpabook.jpashop.domain.OrderSearch;
 import jpabook.jpashop.domain.OrderStatus;
+import jpabook.jpashop.domain.OrderSummary;
 import jpabook.jpashop.repository.order.OrderRepository;
 import jpabook.jpashop.repository.order.simplequery.OrderSimpleQueryDto;
 import jpabook.jpashop.repository.order.simplequery.OrderSimpleQueryRepository;
 import jpabook.jpashop.service.OrderService;
+import jpabook.jpashop.service.OrderSummaryService;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RestController;
@@ -39,6 +46,7 @@ public class OrderSimpleApiController {
     private final OrderService orderService;
     private final OrderRepository orderRepository;
     private final OrderSimpleQueryRepository orderSimpleQueryRepository;
+    private final OrderSummaryService orderSummaryService;
 
     /**
      * 엔티티를 직접 꺼내서 사용한다.
@@ -46,6 +54,7 @@ public class OrderSimpleApiController {
      * 1. 스펙이 변경될 경우, 엔티티를 수정해야하는 문제가 생긴다.
      * 2. 민감한 정보까지 노출될 수 있어 위험하다.
      */
+    @LazyAssociations(Mode.OMIT)
     @GetMapping("/api/v1/simple-orders")
     public List<Order> ordersV1() {
         return orderService.searchOrders(new OrderSearch());
@@ -104,13 +113,28 @@ public class OrderSimpleApiController {
      * -
      * 결론적으로 V3 버전을 사용하는 것을 추천한다.
      * V4와 V3의 성능 차이가 크게 없어 우선적으로 V3를 사용하고 별도로 필요하다면 V4를 사용
+     * -
+     * order_summary 읽기 모델이 활성화되어 있으면 join 없이 단일 테이블에서 조회한다.
      */
     @GetMapping("/api/v4/simple-orders")
     public ResponseEntity<Result<List<OrderSimpleQueryDto>>> ordersV4() {
-        List<OrderSimpleQueryDto> orderDtos = orderSimpleQueryRepository.findOrderDtos();
+        List<OrderSimpleQueryDto> orderDtos = orderSummaryService.isEnabled()
+                ? orderSummaryService.findAll().stream()
+                        .map(s -> new OrderSimpleQueryDto(s.getOrderId(), s.getMemberName(), s.getOrderDate(), s.getStatus(), s.getAddress()))
+                        .toList()
+                : orderSimpleQueryRepository.findOrderDtos();
         return ResponseEntity.ok(new Result<>(orderDtos.size(), orderDtos));
     }
 
+    /**
+     * order_summary 읽기 모델 페이징 조회 (상품 수, 총 금액 포함)
+     */
+    @GetMapping("/api/v5/simple-orders")
+    public Page<OrderSummaryDto> ordersV5(@PageableDefault(size = 100) Pageable pageable) {
+        return orderSummaryService.findLatest(pageable)
+                .map(OrderSummaryDto::new);
+    }
+
     @Data
     @AllArgsConstructor
     static class Result<T> {
@@ -118,6 +142,27 @@ public class OrderSimpleApiController {
         T data;
     }
 
+    @Data
+    static class OrderSummaryDto {
+        private Long orderId;
+        private String name;
+        private LocalDateTime orderDate;
+        private OrderStatus orderStatus;
+        private Address address;
+        private int itemCount;
+        private long totalPrice;
+
+        public OrderSummaryDto(OrderSummary summary) {
+            this.orderId = summary.getOrderId();
+            this.name = summary.getMemberName();
+            this.orderDate = summary.getOrderDate();
+            this.orderStatus = summary.getStatus();
+            this.address = summary.getAddress();
+            this.itemCount = summary.getItemCount();
+            this.totalPrice = summary.getTotalPrice();
+        }
+    }
+
     @Data
     @AllArgsConstructor
     static class SimpleOrderDto {
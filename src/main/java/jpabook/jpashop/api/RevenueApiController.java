@@ -0,0 +1,57 @@
+package jpabook.jpashop.api;
+
+import jpabook.jpashop.repository.revenue.dto.DailyRevenueDto;
+import jpabook.jpashop.repository.revenue.dto.ItemRevenueDto;
+import jpabook.jpashop.repository.revenue.dto.MemberRevenueDto;
+import jpabook.jpashop.repository.revenue.dto.MonthlyRevenueDto;
+import jpabook.jpashop.service.RevenueService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * 매출 리포트 (기간은 양 끝 포함)
+ * ex) /api/v1/revenue/monthly?from=2024-01&to=2024-06
+ */
+@RestController
+@RequiredArgsConstructor
+public class RevenueApiController {
+
+    private final RevenueService revenueService;
+
+    @GetMapping("/api/v1/revenue/daily")
+    public List<DailyRevenueDto> daily(
+            @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return revenueService.findDaily(from, to);
+    }
+
+    @GetMapping("/api/v1/revenue/monthly")
+    public List<MonthlyRevenueDto> monthly(
+            @RequestParam("from") @DateTimeFormat(pattern = "yyyy-MM") YearMonth from,
+            @RequestParam("to") @DateTimeFormat(pattern = "yyyy-MM") YearMonth to) {
+        return revenueService.findMonthly(from, to);
+    }
+
+    @GetMapping("/api/v1/revenue/items")
+    public List<ItemRevenueDto> items(
+            @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(value = "limit", defaultValue = "10") int limit) {
+        return revenueService.findTopItems(from, to, limit);
+    }
+
+    @GetMapping("/api/v1/revenue/members")
+    public List<MemberRevenueDto> members(
+            @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(value = "limit", defaultValue = "10") int limit) {
+        return revenueService.findTopMembers(from, to, limit);
+    }
+}
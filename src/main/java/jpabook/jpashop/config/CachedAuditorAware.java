@@ -0,0 +1,60 @@
+package jpabook.jpashop.config;
+
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 작성자(@CreatedBy / @LastModifiedBy)를 요청 또는 트랜잭션 당 한 번만 만들고 재사용한다.
+ * - HTTP 요청 안: request scope 속성에 보관 (Security Context 도입 시 이 자리에서 사용자 id 를 꺼낸다.)
+ * - 요청 밖(배치, 스케줄러): 트랜잭션 리소스로 보관하고 트랜잭션이 끝나면 해제
+ * - 둘 다 없으면 SYSTEM
+ * 엔티티마다 UUID.randomUUID()(SecureRandom)를 호출하지 않으므로 대량 저장 시 비용이 거의 없다.
+ */
+public class CachedAuditorAware implements AuditorAware<String> {
+
+    public static final String SYSTEM = "system";
+
+    private static final String ATTRIBUTE = CachedAuditorAware.class.getName() + ".AUDITOR";
+
+    @Override
+    public Optional<String> getCurrentAuditor() {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes != null) {
+            return Optional.of(fromRequest(requestAttributes));
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            return Optional.of(fromTransaction());
+        }
+        return Optional.of(SYSTEM);
+    }
+
+    private static String fromRequest(RequestAttributes requestAttributes) {
+        String auditor = (String) requestAttributes.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (auditor == null) {
+            auditor = UUID.randomUUID().toString();
+            requestAttributes.setAttribute(ATTRIBUTE, auditor, RequestAttributes.SCOPE_REQUEST);
+        }
+        return auditor;
+    }
+
+    private static String fromTransaction() {
+        String auditor = (String) TransactionSynchronizationManager.getResource(ATTRIBUTE);
+        if (auditor == null) {
+            auditor = UUID.randomUUID().toString();
+            TransactionSynchronizationManager.bindResource(ATTRIBUTE, auditor);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(ATTRIBUTE);
+                }
+            });
+        }
+        return auditor;
+    }
+}
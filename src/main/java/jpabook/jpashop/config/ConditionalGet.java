@@ -0,0 +1,60 @@
+package jpabook.jpashop.config;
+
+import jakarta.servlet.http.HttpServletResponse;
+import jpabook.jpashop.repository.dto.ResourceVersion;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
+import org.springframework.web.accept.ContentNegotiationManager;
+import org.springframework.web.context.request.NativeWebRequest;
+
+import java.util.List;
+
+/**
+ * 조건부 GET (ETag / Last-Modified)
+ * 같은 URL 이 Accept 에 따라 JSON / CBOR / Smile 로 응답하므로
+ * - ETag 에 응답 표현을 넣어 다른 표현의 캐시와 섞이지 않게 하고
+ * - 중간 캐시가 Accept 별로 저장하도록 Vary: Accept 를 단다. (304 응답 포함)
+ */
+@Component
+@RequiredArgsConstructor
+public class ConditionalGet {
+
+    /** 메시지 컨버터 순서와 같다. (Accept 가 없거나 모든 타입을 받으면 JSON) */
+    private static final List<MediaType> REPRESENTATIONS = List.of(
+            MediaType.APPLICATION_JSON,
+            MediaType.APPLICATION_CBOR,
+            new MediaType("application", "x-jackson-smile"));
+
+    private final ContentNegotiationManager contentNegotiationManager;
+
+    /**
+     * 바뀌지 않았으면 true (304 응답이 준비되고, 컨트롤러는 null 을 반환한다.)
+     */
+    public boolean notModified(NativeWebRequest request, ResourceVersion version) {
+        HttpServletResponse response = request.getNativeResponse(HttpServletResponse.class);
+        if (response != null) {
+            response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        }
+        return request.checkNotModified(version.eTag(representation(request)), version.lastModifiedMillis());
+    }
+
+    private String representation(NativeWebRequest request) {
+        List<MediaType> accepted;
+        try {
+            accepted = contentNegotiationManager.resolveMediaTypes(request);
+        } catch (HttpMediaTypeNotAcceptableException e) {
+            accepted = List.of(MediaType.ALL);
+        }
+        for (MediaType mediaType : accepted) {
+            for (MediaType representation : REPRESENTATIONS) {
+                if (mediaType.isCompatibleWith(representation)) {
+                    return representation.getSubtype();
+                }
+            }
+        }
+        return MediaType.APPLICATION_JSON.getSubtype();
+    }
+}
@@ -0,0 +1,70 @@
+package jpabook.jpashop.config;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToOne;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.EntityType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Member;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 지연 로딩 기본 정책 검증
+ * XxxToOne 은 기본이 EAGER 이므로, 애플리케이션 시작 시점에 JPA 메타모델을 훑어
+ * fetch = LAZY 를 지정하지 않은 연관관계가 있으면 시작을 실패시킨다. (테스트 컨텍스트도 실패하므로 빌드가 깨진다.)
+ * 불가피한 경우 app.jpa.eager-to-one-allow-list 에 "엔티티명.필드명" 으로 등록한다.
+ */
+@Slf4j
+@Component
+public class FetchPolicyValidator {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final Set<String> allowList;
+
+    public FetchPolicyValidator(EntityManagerFactory entityManagerFactory,
+                                @Value("${app.jpa.eager-to-one-allow-list:}") List<String> allowList) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.allowList = Set.copyOf(allowList);
+    }
+
+    @PostConstruct
+    public void validate() {
+        List<String> violations = new ArrayList<>();
+        for (EntityType<?> entity : entityManagerFactory.getMetamodel().getEntities()) {
+            for (Attribute<?, ?> attribute : entity.getDeclaredAttributes()) {
+                String name = entity.getName() + "." + attribute.getName();
+                if (isEagerToOne(attribute) && !allowList.contains(name)) {
+                    violations.add(name);
+                }
+            }
+        }
+
+        if (!violations.isEmpty()) {
+            throw new IllegalStateException(
+                    "EAGER to-one associations found (set fetch = FetchType.LAZY or add to app.jpa.eager-to-one-allow-list): " + violations);
+        }
+        log.debug("fetch policy validated, eager to-one allow list: {}", allowList);
+    }
+
+    private static boolean isEagerToOne(Attribute<?, ?> attribute) {
+        Member member = attribute.getJavaMember();
+        if (!(member instanceof AnnotatedElement element)) {
+            return false;
+        }
+        ManyToOne manyToOne = element.getAnnotation(ManyToOne.class);
+        if (manyToOne != null) {
+            return manyToOne.fetch() == FetchType.EAGER;
+        }
+        OneToOne oneToOne = element.getAnnotation(OneToOne.class);
+        return oneToOne != null && oneToOne.fetch() == FetchType.EAGER;
+    }
+}
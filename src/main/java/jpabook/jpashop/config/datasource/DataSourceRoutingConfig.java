@@ -0,0 +1,65 @@
+package jpabook.jpashop.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * app.datasource.routing.enabled=true 일 때 primary(쓰기) / replica(읽기) 데이터소스를 분리한다.
+ * 로컬에서는 H2 인스턴스 두 개를 primary / replica 로 지정해 확인할 수 있다.
+ */
+@Configuration
+@EnableConfigurationProperties(ReplicationRoutingProperties.class)
+@ConditionalOnProperty(prefix = "app.datasource.routing", name = "enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    @Bean
+    public DataSource primaryDataSource(ReplicationRoutingProperties properties) {
+        return createHikari(properties.getPrimary(), "primary-pool");
+    }
+
+    @Bean
+    public DataSource replicaDataSource(ReplicationRoutingProperties properties) {
+        HikariDataSource dataSource = createHikari(properties.getReplica(), "replica-pool");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public DataSource routingDataSource(ReplicationRoutingProperties properties,
+                                        @Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                        @Qualifier("replicaDataSource") DataSource replicaDataSource) {
+        ReplicationRoutingDataSource routingDataSource = new ReplicationRoutingDataSource(properties.getStickyWindow());
+        routingDataSource.setTargetDataSources(Map.of(
+                DataSourceType.PRIMARY, primaryDataSource,
+                DataSourceType.REPLICA, replicaDataSource));
+        routingDataSource.setDefaultTargetDataSource(primaryDataSource);
+        return routingDataSource;
+    }
+
+    /**
+     * 실제 커넥션 획득을 첫 쿼리 시점까지 미뤄서 트랜잭션의 readOnly 플래그가 반영된 뒤 라우팅되도록 한다.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("routingDataSource") DataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    private static HikariDataSource createHikari(DataSourceProperties properties, String poolName) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName(poolName);
+        return dataSource;
+    }
+}
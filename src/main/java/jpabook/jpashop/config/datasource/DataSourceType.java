@@ -0,0 +1,5 @@
+package jpabook.jpashop.config.datasource;
+
+public enum DataSourceType {
+    PRIMARY, REPLICA
+}
@@ -0,0 +1,37 @@
+package jpabook.jpashop.config.datasource;
+
+import java.time.Duration;
+
+/**
+ * 마지막 쓰기 커밋 시각을 스레드 단위로 기억한다.
+ * 복제 지연(replication lag) 동안 방금 쓴 데이터를 replica 에서 못 읽는 문제를 막기 위해
+ * sticky window 안의 읽기 전용 트랜잭션은 primary 로 보낸다.
+ * - 요청 스레드는 재사용되므로 다른 요청이 window 를 이어받을 수 있지만, 그 경우에도 primary 를 읽을 뿐이라 안전하다.
+ */
+public final class ReadYourWritesContext {
+
+    private static final ThreadLocal<Long> LAST_WRITE_NANOS = new ThreadLocal<>();
+
+    private ReadYourWritesContext() {
+    }
+
+    public static void markWrite() {
+        LAST_WRITE_NANOS.set(System.nanoTime());
+    }
+
+    public static boolean isWithin(Duration window) {
+        Long lastWrite = LAST_WRITE_NANOS.get();
+        if (lastWrite == null) {
+            return false;
+        }
+        if (System.nanoTime() - lastWrite <= window.toNanos()) {
+            return true;
+        }
+        LAST_WRITE_NANOS.remove();
+        return false;
+    }
+
+    public static void clear() {
+        LAST_WRITE_NANOS.remove();
+    }
+}
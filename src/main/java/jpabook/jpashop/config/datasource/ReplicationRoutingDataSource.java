@@ -0,0 +1,60 @@
+package jpabook.jpashop.config.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+/**
+ * 트랜잭션의 readOnly 여부로 primary / replica 를 선택한다.
+ * - @Transactional(readOnly = true) -> REPLICA (단, 쓰기 직후 sticky window 안이면 PRIMARY)
+ * - 그 외 -> PRIMARY
+ * 트랜잭션 시작 시점에는 readOnly 플래그가 아직 동기화되지 않으므로
+ * 반드시 LazyConnectionDataSourceProxy 로 감싸 첫 쿼리 시점에 라우팅되도록 해야 한다.
+ */
+@Slf4j
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final Duration stickyWindow;
+
+    public ReplicationRoutingDataSource(Duration stickyWindow) {
+        this.stickyWindow = stickyWindow;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        DataSourceType type = currentType();
+        log.debug("routing datasource: {}", type);
+        return type;
+    }
+
+    private DataSourceType currentType() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return DataSourceType.PRIMARY;
+        }
+
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            registerWriteMarker();
+            return DataSourceType.PRIMARY;
+        }
+
+        return ReadYourWritesContext.isWithin(stickyWindow) ? DataSourceType.PRIMARY : DataSourceType.REPLICA;
+    }
+
+    /**
+     * 쓰기 트랜잭션이 커밋되면 sticky window 를 시작한다.
+     */
+    private void registerWriteMarker() {
+        if (stickyWindow.isZero() || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                ReadYourWritesContext.markWrite();
+            }
+        });
+    }
+}
@@ -0,0 +1,25 @@
+package jpabook.jpashop.config.datasource;
+
+import lombok.Data;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.NestedConfigurationProperty;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "app.datasource.routing")
+public class ReplicationRoutingProperties {
+
+    // true 일 때만 primary / replica 라우팅 데이터소스를 등록한다. (false 면 spring.datasource 단일 데이터소스 사용)
+    private boolean enabled = false;
+
+    // 쓰기 트랜잭션 커밋 후 이 시간 동안은 읽기 전용 트랜잭션도 primary 로 보낸다. (read-your-writes)
+    private Duration stickyWindow = Duration.ofSeconds(1);
+
+    @NestedConfigurationProperty
+    private DataSourceProperties primary = new DataSourceProperties();
+
+    @NestedConfigurationProperty
+    private DataSourceProperties replica = new DataSourceProperties();
+}
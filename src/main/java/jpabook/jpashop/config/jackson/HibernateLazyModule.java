@@ -0,0 +1,123 @@
+package jpabook.jpashop.config.jackson;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import jakarta.persistence.Entity;
+import jpabook.jpashop.config.jackson.LazyAssociations.Mode;
+import org.hibernate.Hibernate;
+import org.hibernate.proxy.HibernateProxy;
+import org.hibernate.proxy.LazyInitializer;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Hibernate 6 프록시 / PersistentCollection 을 인식하는 Jackson 모듈
+ * - 로딩된 프록시는 실제 엔티티로 풀어서 쓴다. (hibernateLazyInitializer 직렬화 오류 방지)
+ * - 로딩되지 않은 프록시는 모드에 따라 {"id": ...} 로 쓰거나 생략한다.
+ * - 로딩되지 않은 컬렉션(PersistentCollection)은 생략한다.
+ * 어떤 경우에도 직렬화 중에 지연 로딩(추가 쿼리)을 일으키지 않는다.
+ */
+public class HibernateLazyModule extends SimpleModule {
+
+    private final Mode defaultMode;
+
+    public HibernateLazyModule(Mode defaultMode) {
+        super(HibernateLazyModule.class.getSimpleName());
+        this.defaultMode = defaultMode;
+        setSerializerModifier(new LazyAwareSerializerModifier());
+    }
+
+    private Mode currentMode() {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes == null) {
+            return defaultMode;
+        }
+        Mode mode = (Mode) requestAttributes.getAttribute(LazyAssociationsAdvice.ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        return mode != null ? mode : defaultMode;
+    }
+
+    private static void writeIdentifier(JsonGenerator gen, Object identifier) throws IOException {
+        gen.writeStartObject();
+        gen.writeObjectField("id", identifier);
+        gen.writeEndObject();
+    }
+
+    private class LazyAwareSerializerModifier extends BeanSerializerModifier {
+
+        @Override
+        public List<BeanPropertyWriter> changeProperties(SerializationConfig config, BeanDescription beanDesc,
+                                                         List<BeanPropertyWriter> beanProperties) {
+            if (!beanDesc.getBeanClass().isAnnotationPresent(Entity.class)) {
+                return beanProperties;
+            }
+            return beanProperties.stream()
+                    .map(writer -> (BeanPropertyWriter) new LazyAwarePropertyWriter(writer))
+                    .toList();
+        }
+
+        @Override
+        public JsonSerializer<?> modifySerializer(SerializationConfig config, BeanDescription beanDesc,
+                                                  JsonSerializer<?> serializer) {
+            if (HibernateProxy.class.isAssignableFrom(beanDesc.getBeanClass())) {
+                return new HibernateProxySerializer();
+            }
+            return serializer;
+        }
+    }
+
+    /**
+     * 엔티티 필드 단위로 로딩 여부를 확인한다. 필드째 생략할 수 있는 곳은 여기뿐이다.
+     */
+    private class LazyAwarePropertyWriter extends BeanPropertyWriter {
+
+        LazyAwarePropertyWriter(BeanPropertyWriter base) {
+            super(base);
+        }
+
+        @Override
+        public void serializeAsField(Object bean, JsonGenerator gen, SerializerProvider prov) throws Exception {
+            Object value = get(bean);
+            if (value == null || Hibernate.isInitialized(value)) {
+                super.serializeAsField(bean, gen, prov);
+                return;
+            }
+            if (value instanceof HibernateProxy proxy && currentMode() == Mode.ID) {
+                gen.writeFieldName(_name);
+                writeIdentifier(gen, proxy.getHibernateLazyInitializer().getIdentifier());
+            }
+        }
+    }
+
+    /**
+     * 리스트 원소처럼 필드가 아닌 자리의 프록시. 생략할 수 없으므로 OMIT 모드에서는 null 로 쓴다.
+     */
+    private class HibernateProxySerializer extends StdSerializer<HibernateProxy> {
+
+        HibernateProxySerializer() {
+            super(HibernateProxy.class);
+        }
+
+        @Override
+        public void serialize(HibernateProxy value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            LazyInitializer initializer = value.getHibernateLazyInitializer();
+            if (!initializer.isUninitialized()) {
+                Object implementation = initializer.getImplementation();
+                provider.findValueSerializer(implementation.getClass()).serialize(implementation, gen, provider);
+            } else if (currentMode() == Mode.OMIT) {
+                gen.writeNull();
+            } else {
+                writeIdentifier(gen, initializer.getIdentifier());
+            }
+        }
+    }
+}
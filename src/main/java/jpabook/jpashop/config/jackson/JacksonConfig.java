@@ -0,0 +1,57 @@
+package jpabook.jpashop.config.jackson;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import jpabook.jpashop.config.jackson.LazyAssociations.Mode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * Module 빈은 스프링 부트가 기본 ObjectMapper 에 자동으로 등록한다.
+ * -
+ * 대량으로 조회하는 내부 서비스용 바이너리 포맷 (Accept 헤더로 선택, 기본은 JSON)
+ * - application/cbor, application/x-jackson-smile
+ * - 부트가 구성한 빌더로 만들어 JSON 과 같은 모듈 / 설정을 쓰고, 날짜만 문자열 대신 숫자 배열로 쓴다.
+ * - HttpMessageConverter 빈은 스프링 MVC 기본 CBOR / Smile 컨버터 자리를 대신한다.
+ * -
+ * @JsonFilter 가 붙은 DTO 는 필터를 따로 주지 않으면 모든 필드를 쓴다. (fields= 요청은 SparseFields.filters())
+ */
+@Configuration
+public class JacksonConfig {
+
+    @Bean
+    public Module hibernateLazyModule(@Value("${app.jackson.lazy-associations:ID}") Mode defaultMode) {
+        return new HibernateLazyModule(defaultMode);
+    }
+
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer defaultPropertyFilter() {
+        return builder -> builder.filters(new SimpleFilterProvider()
+                .setDefaultFilter(SimpleBeanPropertyFilter.serializeAll()));
+    }
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder
+                .factory(new CBORFactory())
+                .featuresToEnable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build());
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder
+                .factory(new SmileFactory())
+                .featuresToEnable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build());
+    }
+}
@@ -0,0 +1,24 @@
+package jpabook.jpashop.config.jackson;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 엔티티를 그대로 응답하는 API 에서 아직 로딩되지 않은 연관관계를 어떻게 쓸지 지정한다.
+ * 지정하지 않으면 app.jackson.lazy-associations 기본값을 따른다.
+ * - 어느 모드든 직렬화 중에 지연 로딩을 일으키지 않는다.
+ * - 로딩되지 않은 컬렉션은 id 를 알려면 로딩이 필요하므로 항상 생략한다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface LazyAssociations {
+
+    Mode value();
+
+    enum Mode {
+        ID,   // 로딩되지 않은 프록시를 {"id": ...} 로 쓴다.
+        OMIT  // 로딩되지 않은 프록시를 필드째 생략한다.
+    }
+}
@@ -0,0 +1,38 @@
+package jpabook.jpashop.config.jackson;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * 핸들러 메서드의 @LazyAssociations 를 응답을 쓰기 직전에 요청 속성으로 옮겨 둔다.
+ * 직렬화기(HibernateLazyModule)는 이 값을 읽어 모드를 정한다.
+ */
+@RestControllerAdvice
+public class LazyAssociationsAdvice implements ResponseBodyAdvice<Object> {
+
+    static final String ATTRIBUTE = LazyAssociations.class.getName() + ".MODE";
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return returnType.hasMethodAnnotation(LazyAssociations.class);
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        LazyAssociations lazyAssociations = returnType.getMethodAnnotation(LazyAssociations.class);
+        if (requestAttributes != null && lazyAssociations != null) {
+            requestAttributes.setAttribute(ATTRIBUTE, lazyAssociations.value(), RequestAttributes.SCOPE_REQUEST);
+        }
+        return body;
+    }
+}
@@ -5,12 +5,15 @@ import jpabook.jpashop.domain.item.Item;
 import jpabook.jpashop.repository.ItemRepository;
 import jpabook.jpashop.service.ItemService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 
 @Controller
 @RequiredArgsConstructor
@@ -32,8 +35,11 @@ public class ItemController {
     }
 
     @GetMapping("/items")
-    public String list(Model model) {
-        model.addAttribute("items", itemRepository.findAll());
+    public String list(@RequestParam(value = "dtype", required = false) String dtype,
+                       @PageableDefault(size = 20, sort = "name") Pageable pageable,
+                       Model model) {
+        model.addAttribute("dtype", dtype);
+        model.addAttribute("page", itemRepository.findSummaries(dtype, pageable));
         return "items/itemList";
     }
 
@@ -32,7 +32,7 @@ public class MemberController {
 
     @GetMapping("/members")
     public String list(Model model) {
-        model.addAttribute("members", memberService.findMembers());
+        model.addAttribute("members", memberService.findMemberSummaries());
         return "members/memberList";
     }
 }
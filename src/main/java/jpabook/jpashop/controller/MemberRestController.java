@@ -1,6 +1,8 @@
 package jpabook.jpashop.controller;
 
+import jpabook.jpashop.config.ConditionalGet;
 import jpabook.jpashop.domain.Member;
+import jpabook.jpashop.repository.dto.ResourceVersion;
 import jpabook.jpashop.repository.member.dto.MemberDto;
 import jpabook.jpashop.repository.member.MemberRepository;
 import lombok.RequiredArgsConstructor;
@@ -10,15 +12,25 @@ import org.springframework.data.web.PageableDefault;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.NativeWebRequest;
 
 @RestController
 @RequiredArgsConstructor
 public class MemberRestController {
 
     private final MemberRepository memberRepository;
+    private final ConditionalGet conditionalGet;
 
+    /**
+     * 조건부 GET: 바뀌지 않았으면 엔티티를 조회하지 않고 304
+     */
     @GetMapping("/members/{id}")
-    public MemberResponse findMember(@PathVariable("id") Long id) {
+    public MemberResponse findMember(@PathVariable("id") Long id, NativeWebRequest request) {
+        ResourceVersion version = memberRepository.findVersionById(id)
+                .orElseThrow(() -> new IllegalArgumentException("not found: " + id));
+        if (conditionalGet.notModified(request, version)) {
+            return null;
+        }
         Member member = memberRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("not found: " + id));
         return new MemberResponse(member);
@@ -30,7 +42,11 @@ public class MemberRestController {
     }
 
     @GetMapping("/page/members")
-    public Page<MemberDto> list(@PageableDefault(size = 5, sort = "name") Pageable pageable) {
+    public Page<MemberDto> list(@PageableDefault(size = 5, sort = "name") Pageable pageable, NativeWebRequest request) {
+        ResourceVersion version = memberRepository.findVersion();
+        if (conditionalGet.notModified(request, version)) {
+            return null;
+        }
         Page<Member> page = memberRepository.findAll(pageable);
         return page.map(MemberDto::new);
     }
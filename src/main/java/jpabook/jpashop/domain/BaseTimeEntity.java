@@ -31,8 +31,10 @@ public abstract class BaseTimeEntity {
      */
     @PrePersist
     private void prePersist() {
-        LocalDateTime now = LocalDateTime.now();
-        log.info("PrePersist now: {}", now);
+        // 엔티티마다 호출되므로 DEBUG 에서만 남긴다. (대량 저장 시 INFO 로그 비용 제거)
+        if (log.isDebugEnabled()) {
+            log.debug("PrePersist {}: {}", getClass().getSimpleName(), LocalDateTime.now());
+        }
         // createdDate = now;
         // lastModifiedDate = now;
     }
@@ -43,8 +45,9 @@ public abstract class BaseTimeEntity {
      */
     @PreUpdate
     private void preUpdate() {
-        LocalDateTime now = LocalDateTime.now();
-        log.info("PreUpdate now: {}", now);
+        if (log.isDebugEnabled()) {
+            log.debug("PreUpdate {}: {}", getClass().getSimpleName(), LocalDateTime.now());
+        }
         // lastModifiedDate = now;
     }
 }
@@ -13,7 +13,9 @@ import java.util.List;
 @Entity
 @Getter @Setter(AccessLevel.PACKAGE)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "category")
+@Table(name = "category", indexes = {
+        @Index(name = "idx_category_path", columnList = "path")
+})
 public class Category extends BaseTimeEntity {
 
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -23,22 +25,57 @@ public class Category extends BaseTimeEntity {
     @Column(name = "name")
     private String name;
 
+    /**
+     * materialized path: 루트부터 자신까지의 id 를 '/' 로 이어붙인 값 (ex. /1/5/12/)
+     * path like '/1/5/%' 한 번으로 하위 트리 전체를 인덱스 range scan 으로 조회한다.
+     */
+    @Column(name = "path")
+    private String path;
+
+    @Column(name = "depth")
+    private int depth;
+
     @ManyToMany
     @JoinTable(name = "category_item",
             joinColumns = @JoinColumn(name = "category_id"),
-            inverseJoinColumns = @JoinColumn(name = "item_id")
+            inverseJoinColumns = @JoinColumn(name = "item_id"),
+            uniqueConstraints = @UniqueConstraint(name = "uk_category_item", columnNames = {"category_id", "item_id"}),
+            indexes = @Index(name = "idx_category_item_item", columnList = "item_id, category_id")
     )
     private List<Item> items = new ArrayList<>();
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "parent_id")
     private Category parent;
 
     @OneToMany(mappedBy = "parent")
     private List<Category> child = new ArrayList<>();
 
+    public Category(String name) {
+        this.name = name;
+    }
+
     public void addChildCategory(Category child) {
         this.child.add(child);
         child.setParent(this);
+        child.assignPath();
+    }
+
+    /**
+     * IDENTITY 전략이므로 insert 직후 id 가 생기면 path 를 채운다. (flush 시점에 update 로 반영)
+     * 부모가 먼저 저장되어 있어야 한다.
+     */
+    @PostPersist
+    private void assignPath() {
+        if (id == null) {
+            return;
+        }
+        if (parent == null) {
+            this.path = "/" + id + "/";
+            this.depth = 0;
+        } else if (parent.getPath() != null) {
+            this.path = parent.getPath() + id + "/";
+            this.depth = parent.getDepth() + 1;
+        }
     }
 }
@@ -2,6 +2,7 @@ package jpabook.jpashop.domain;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.Hibernate;
 import org.hibernate.annotations.DynamicInsert;
 
 import java.util.ArrayList;
@@ -11,7 +12,9 @@ import java.util.List;
 @Getter @Setter
 @DynamicInsert // DynamicInsert: 초기화 되지 않은 필드는 insert 쿼리에서 제외된다. (성능 개선)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "member")
+@Table(name = "member", indexes = {
+        @Index(name = "uk_member_username", columnList = "username", unique = true)
+})
 @ToString(of = {"id", "name", "age"})
 @NamedQuery( // 잘 사용하지는 않음 (엔티티는 엔티티 만, 쿼리는 지양한다.)
         name = "Member.findByNames",
@@ -69,8 +72,16 @@ public class Member extends BaseEntity {
         this.name = name;
     }
 
+    /**
+     * team.members 는 이미 로딩된 경우에만 맞춰준다. (회원 한 명을 위해 팀 전체 회원을 로딩하지 않는다.)
+     */
     public void changeTeam(Team team) {
-        team.getMembers().add(this);
+        if (this.team != null && Hibernate.isInitialized(this.team.getMembers())) {
+            this.team.getMembers().remove(this);
+        }
+        if (Hibernate.isInitialized(team.getMembers())) {
+            team.getMembers().add(this);
+        }
         this.team = team;
     }
 }
@@ -4,6 +4,8 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.BatchSize;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -12,8 +14,19 @@ import java.util.List;
 @Entity
 @Getter
 @NoArgsConstructor
+@NamedEntityGraph(name = "Order.summary", attributeNodes = {
+        @NamedAttributeNode("member"),
+        @NamedAttributeNode("delivery")
+})
+@NamedEntityGraph(name = "Order.full", attributeNodes = {
+        @NamedAttributeNode(value = "member", subgraph = "member.team"),
+        @NamedAttributeNode("delivery")
+}, subgraphs = @NamedSubgraph(name = "member.team", attributeNodes = @NamedAttributeNode("team")))
 @Table(name = "orders", indexes = {
-        @Index(name = "idx_order_order_status", columnList = "order_status")
+        @Index(name = "idx_order_order_date", columnList = "order_date"),
+        @Index(name = "idx_order_member_date", columnList = "member_id, order_date"),
+        @Index(name = "idx_order_status_date", columnList = "order_status, order_date"),
+        @Index(name = "idx_order_total_price", columnList = "total_price")
 })
 public class Order extends BaseTimeEntity {
 
@@ -31,6 +44,7 @@ public class Order extends BaseTimeEntity {
     @JoinColumn(name = "delivery_id")
     private Delivery delivery;
 
+    @BatchSize(size = 100) // 컬렉션은 fetch join 대신 IN 절 batch 로 로딩한다.
     @OneToMany(mappedBy = "order", cascade = CascadeType.ALL)
     private List<OrderItem> orderItems = new ArrayList<>();
 
@@ -41,9 +55,19 @@ public class Order extends BaseTimeEntity {
     @Column(name ="order_status")
     private OrderStatus status; // 주문 상태: ORDER, CANCEL
 
+    // 주문상품 추가 시점에 누적한다. (정렬 / 필터 / SUM 을 order_item 조인 없이 처리)
+    @Column(name = "total_price", nullable = false)
+    private int totalPrice;
+
+    /**
+     * 연관관계의 주인은 Order.member 이므로 member.orders 는 이미 로딩된 경우에만 맞춰준다.
+     * (주문 한 건을 위해 회원의 전체 주문 이력을 로딩하지 않는다.)
+     */
     public void setMember(Member member) {
         this.member = member;
-        member.getOrders().add(this);
+        if (Hibernate.isInitialized(member.getOrders())) {
+            member.getOrders().add(this);
+        }
     }
 
     public void setDelivery(Delivery delivery) {
@@ -54,6 +78,7 @@ public class Order extends BaseTimeEntity {
     public void addOrderItems(OrderItem orderItem) {
         orderItems.add(orderItem);
         orderItem.setOrder(this);
+        this.totalPrice += orderItem.getTotalPrice();
     }
 
     public static Order createOrder(Member member, Delivery delivery, OrderItem... orderItems) {
@@ -70,6 +95,7 @@ public class Order extends BaseTimeEntity {
 
     /**
      * 주문 취소
+     * 취소된 주문도 주문 당시 금액은 남겨두고, 매출 집계는 주문 상태로 구분한다.
      */
     public void cancel() {
         if (this.delivery.getStatus() == DeliveryStatus.COMP) {
@@ -81,13 +107,4 @@ public class Order extends BaseTimeEntity {
             orderItem.cancel();
         }
     }
-
-    /**
-     * 전체 주문 가격 조회
-     */
-    public int getTotalPrice() {
-        return orderItems.stream()
-                .mapToInt(OrderItem::getTotalPrice)
-                .sum();
-    }
 }
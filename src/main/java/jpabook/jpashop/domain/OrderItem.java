@@ -23,7 +23,7 @@ public class OrderItem extends BaseTimeEntity {
     private Item item;
 
     @JsonIgnore
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "order_id")
     private Order order;
 
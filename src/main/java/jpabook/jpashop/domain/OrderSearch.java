@@ -1,10 +1,23 @@
 package jpabook.jpashop.domain;
 
 import lombok.Data;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
 
 @Data
 public class OrderSearch {
 
     String memberName;
     OrderStatus orderStatus;
-}
\ No newline at end of file
+
+    Long memberId;
+    DeliveryStatus deliveryStatus;
+    Integer minTotalPrice;
+
+    // 주문일 기간 (양 끝 포함)
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    LocalDate orderDateFrom;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    LocalDate orderDateTo;
+}
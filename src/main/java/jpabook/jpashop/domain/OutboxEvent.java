@@ -0,0 +1,61 @@
+package jpabook.jpashop.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * transactional outbox
+ * 주문과 같은 트랜잭션에서 저장되고, OutboxPoller 가 발행 후 published_at 을 채운다.
+ * 실패하면 next_attempt_at 까지 미루고, 최대 시도 횟수를 넘으면 failed_at 을 채워 격리한다.
+ * (격리된 이벤트는 원인을 고친 뒤 failed_at, next_attempt_at 을 비우면 다시 발행된다.)
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "outbox_event", indexes = {
+        @Index(name = "idx_outbox_event_published_at", columnList = "published_at, outbox_event_id"),
+        @Index(name = "idx_outbox_event_aggregate_id", columnList = "aggregate_id, outbox_event_id")
+})
+public class OutboxEvent {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "outbox_event_id")
+    private Long id;
+
+    @Column(name = "aggregate_id", nullable = false)
+    private Long aggregateId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false)
+    private OrderEventType eventType;
+
+    @Lob
+    @Column(name = "payload")
+    private String payload;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "published_at")
+    private LocalDateTime publishedAt;
+
+    @Column(name = "attempts")
+    private int attempts;
+
+    @Column(name = "next_attempt_at")
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "failed_at")
+    private LocalDateTime failedAt;
+
+    public OutboxEvent(Long aggregateId, OrderEventType eventType, String payload) {
+        this.aggregateId = aggregateId;
+        this.eventType = eventType;
+        this.payload = payload;
+        this.createdAt = LocalDateTime.now();
+    }
+}
@@ -8,16 +8,22 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.BatchSize;
 
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@BatchSize(size = 100) // OrderItem.item 등 프록시 초기화 시 IN 절로 묶어서 조회
 @Inheritance(strategy = InheritanceType.SINGLE_TABLE)
 @DiscriminatorColumn(name = "dtype")
 @Getter @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "item")
+@Table(name = "item", indexes = {
+        @Index(name = "idx_item_name", columnList = "name"),
+        @Index(name = "idx_item_price", columnList = "price"),
+        @Index(name = "idx_item_dtype_name", columnList = "dtype, name")
+})
 public abstract class Item extends BaseTimeEntity {
 
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
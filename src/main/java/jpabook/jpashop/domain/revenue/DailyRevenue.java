@@ -0,0 +1,43 @@
+package jpabook.jpashop.domain.revenue;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 일별 매출 롤업 (주문일 기준, 취소 시 차감)
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "daily_revenue", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_daily_revenue_sales_date", columnNames = "sales_date")
+})
+public class DailyRevenue {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "daily_revenue_id")
+    private Long id;
+
+    @Column(name = "sales_date", nullable = false)
+    private LocalDate salesDate;
+
+    @Column(name = "order_count")
+    private long orderCount;
+
+    @Column(name = "quantity")
+    private long quantity;
+
+    @Column(name = "revenue")
+    private long revenue;
+
+    public DailyRevenue(LocalDate salesDate, long orderCount, long quantity, long revenue) {
+        this.salesDate = salesDate;
+        this.orderCount = orderCount;
+        this.quantity = quantity;
+        this.revenue = revenue;
+    }
+}
@@ -0,0 +1,43 @@
+package jpabook.jpashop.domain.revenue;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 상품별 일 매출 롤업
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "item_daily_revenue", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_item_daily_revenue", columnNames = {"sales_date", "item_id"})
+})
+public class ItemDailyRevenue {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "item_daily_revenue_id")
+    private Long id;
+
+    @Column(name = "sales_date", nullable = false)
+    private LocalDate salesDate;
+
+    @Column(name = "item_id", nullable = false)
+    private Long itemId;
+
+    @Column(name = "quantity")
+    private long quantity;
+
+    @Column(name = "revenue")
+    private long revenue;
+
+    public ItemDailyRevenue(LocalDate salesDate, Long itemId, long quantity, long revenue) {
+        this.salesDate = salesDate;
+        this.itemId = itemId;
+        this.quantity = quantity;
+        this.revenue = revenue;
+    }
+}
@@ -0,0 +1,43 @@
+package jpabook.jpashop.domain.revenue;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 회원별 일 매출 롤업
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "member_daily_revenue", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_member_daily_revenue", columnNames = {"sales_date", "member_id"})
+})
+public class MemberDailyRevenue {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "member_daily_revenue_id")
+    private Long id;
+
+    @Column(name = "sales_date", nullable = false)
+    private LocalDate salesDate;
+
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    @Column(name = "order_count")
+    private long orderCount;
+
+    @Column(name = "revenue")
+    private long revenue;
+
+    public MemberDailyRevenue(LocalDate salesDate, Long memberId, long orderCount, long revenue) {
+        this.salesDate = salesDate;
+        this.memberId = memberId;
+        this.orderCount = orderCount;
+        this.revenue = revenue;
+    }
+}
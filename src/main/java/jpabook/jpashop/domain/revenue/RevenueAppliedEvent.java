@@ -0,0 +1,25 @@
+package jpabook.jpashop.domain.revenue;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 매출 롤업에 이미 반영한 outbox 이벤트 (at-least-once 재전달 중복 제거)
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "revenue_applied_event")
+public class RevenueAppliedEvent {
+
+    @Id
+    @Column(name = "outbox_event_id")
+    private Long eventId;
+
+    @Column(name = "applied_at", nullable = false)
+    private LocalDateTime appliedAt;
+}
@@ -0,0 +1,24 @@
+package jpabook.jpashop.exception;
+
+/**
+ * 요청 파라미터가 지원하지 않는 값일 때 (fields=, dtype=, plan= 등)
+ * ApiExceptionAdvice 가 400 Bad Request 로 응답한다.
+ */
+public class UnsupportedParameterException extends IllegalArgumentException {
+
+    public UnsupportedParameterException() {
+        super();
+    }
+
+    public UnsupportedParameterException(String message) {
+        super(message);
+    }
+
+    public UnsupportedParameterException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    public UnsupportedParameterException(Throwable cause) {
+        super(cause);
+    }
+}
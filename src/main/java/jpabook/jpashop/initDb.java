@@ -1,104 +0,0 @@
-package jpabook.jpashop;
-
-import jakarta.annotation.PostConstruct;
-import jakarta.persistence.EntityManager;
-import jpabook.jpashop.domain.*;
-import jpabook.jpashop.domain.item.Book;
-import lombok.RequiredArgsConstructor;
-import org.springframework.context.annotation.Profile;
-import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
-
-@Component
-@Profile("local")
-@RequiredArgsConstructor
-public class initDb {
-
-    private final InitService initService;
-
-    @PostConstruct
-    public void init() {
-        // initService.dbInit1();
-        // initService.dbInit2();
-        initService.dbInit3(); // member & team
-    }
-
-    @Component
-    @Transactional
-    @RequiredArgsConstructor
-    static class InitService {
-
-        private final EntityManager em;
-
-        public void dbInit1() {
-            Member member = createMember("userA", "한강로", "서울");
-            em.persist(member);
-
-            Book book1 = createBook("JPA1 BOOK", 10000, 100);
-            Book book2 = createBook("JPA2 BOOK", 20000, 200);
-            em.persist(book1);
-            em.persist(book2);
-
-            OrderItem orderItem1 = OrderItem.createOrderItem(book1, book1.getPrice(), 1);
-            OrderItem orderItem2 = OrderItem.createOrderItem(book2, book1.getPrice() * 2, 2);
-
-            Delivery delivery = new Delivery();
-            delivery.setAddress(member.getAddress());
-
-            Order order = Order.createOrder(member, delivery, orderItem1, orderItem2);
-            em.persist(order);
-        }
-
-        public void dbInit2() {
-            Member member = createMember("userB", "봉오대로", "인천");
-            em.persist(member);
-
-            Book book1 = createBook("SPRING1 BOOK", 10000, 100);
-            Book book2 = createBook("SPRING2 BOOK", 40000, 200);
-            em.persist(book1);
-            em.persist(book2);
-
-            OrderItem orderItem1 = OrderItem.createOrderItem(book1, book1.getPrice(), 1);
-            OrderItem orderItem2 = OrderItem.createOrderItem(book2, book1.getPrice() * 2, 2);
-
-            Delivery delivery = new Delivery();
-            delivery.setAddress(member.getAddress());
-
-            Order order = Order.createOrder(member, delivery, orderItem1, orderItem2);
-            em.persist(order);
-        }
-
-        public void dbInit3() {
-            Team teamA = new Team("teamA");
-            Team teamB = new Team("teamB");
-
-            em.persist(teamA);
-            em.persist(teamB);
-
-            for (int i = 0; i < 100; i++) {
-                Member member = new Member(
-                        "member" + i, i, i % 2 == 0 ? teamA : teamB);
-                em.persist(member);
-            }
-        }
-
-        private static Book createBook(String name, int price, int quantity) {
-            Book book1 = new Book();
-            book1.setName(name);
-            book1.setPrice(price);
-            book1.setStockQuantity(quantity);
-            return book1;
-        }
-
-        private static Member createMember(String userA, String street, String city) {
-            return Member.builder()
-                    .name(userA)
-                    .address(Address.builder()
-                            .zipcode("123-11")
-                            .street(street)
-                            .city(city)
-                            .build())
-                    .build();
-        }
-    }
-}
@@ -0,0 +1,40 @@
+package jpabook.jpashop.repository;
+
+import jpabook.jpashop.service.dto.ItemPriceStock;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 엔티티를 조회하지 않고 JDBC batch 로 상품 가격/재고를 반영한다.
+ * 영속성 컨텍스트를 거치지 않으므로 같은 트랜잭션에서 조회한 Item 엔티티는 갱신되지 않는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ItemJdbcRepository {
+
+    private static final String UPDATE_PRICE_STOCK =
+            "update item set price = ?, stock_quantity = ?, last_modified_date = ? where item_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @return 행별 update count (0 이면 존재하지 않는 상품, 드라이버에 따라 Statement.SUCCESS_NO_INFO)
+     */
+    public int[] updatePriceAndStock(List<ItemPriceStock> rows) {
+        if (rows.isEmpty()) {
+            return new int[0];
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        return jdbcTemplate.batchUpdate(UPDATE_PRICE_STOCK, rows, rows.size(), (ps, row) -> {
+            ps.setInt(1, row.getPrice());
+            ps.setInt(2, row.getStockQuantity());
+            ps.setTimestamp(3, now);
+            ps.setLong(4, row.getItemId());
+        })[0];
+    }
+}
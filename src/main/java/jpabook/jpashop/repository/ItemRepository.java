@@ -1,10 +1,20 @@
 package jpabook.jpashop.repository;
 
 import jpabook.jpashop.domain.item.Item;
+import jpabook.jpashop.repository.dto.ItemSummary;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 @Transactional(readOnly = true)
-public interface ItemRepository extends JpaRepository<Item, Long> {
+public interface ItemRepository extends JpaRepository<Item, Long>, ItemRepositoryCustom {
 
+    // 상품명 prefix 검색 (idx_item_name 인덱스 range scan, 상위 N 건만 조회)
+    // 입력값의 %, _ 는 escape() 로 이스케이프해 와일드카드로 해석되지 않게 한다.
+    @Query("select new jpabook.jpashop.repository.dto.ItemSummary(i.id, i.name, i.price, i.stockQuantity)" +
+            " from Item i where i.name like ?#{escape([0])}% escape ?#{escapeCharacter()} order by i.name")
+    List<ItemSummary> findSummariesByNamePrefix(String prefix, Pageable pageable);
 }
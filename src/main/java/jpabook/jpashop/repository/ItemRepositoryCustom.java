@@ -0,0 +1,10 @@
+package jpabook.jpashop.repository;
+
+import jpabook.jpashop.repository.dto.ItemSummary;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+public interface ItemRepositoryCustom {
+
+    Page<ItemSummary> findSummaries(String dtype, Pageable pageable);
+}
@@ -0,0 +1,93 @@
+package jpabook.jpashop.repository;
+
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.ComparableExpressionBase;
+import com.querydsl.core.types.dsl.Wildcard;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jpabook.jpashop.domain.item.Album;
+import jpabook.jpashop.domain.item.Book;
+import jpabook.jpashop.domain.item.Item;
+import jpabook.jpashop.domain.item.Movie;
+import jpabook.jpashop.exception.UnsupportedParameterException;
+import jpabook.jpashop.repository.dto.ItemSummary;
+import jpabook.jpashop.repository.dto.QItemSummary;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static jpabook.jpashop.domain.item.QItem.item;
+
+@RequiredArgsConstructor
+public class ItemRepositoryCustomImpl implements ItemRepositoryCustom {
+
+    // SINGLE_TABLE 구분 컬럼(dtype) 값 -> 엔티티 타입
+    private static final Map<String, Class<? extends Item>> DTYPES = Map.of(
+            "Book", Book.class,
+            "Album", Album.class,
+            "Movie", Movie.class);
+
+    private final JPAQueryFactory queryFactory;
+
+    /**
+     * 상품 목록 페이징 조회
+     * 하위 타입 컬럼은 조회하지 않고, 정렬은 인덱스가 있는 name, price 만 허용한다. (그 외는 id 순)
+     */
+    @Override
+    public Page<ItemSummary> findSummaries(String dtype, Pageable pageable) {
+        List<ItemSummary> content = queryFactory
+                .select(new QItemSummary(
+                        item.id,
+                        item.name,
+                        item.price,
+                        item.stockQuantity))
+                .from(item)
+                .where(dtypeEq(dtype))
+                .orderBy(orderSpecifiers(pageable.getSort()))
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+
+        JPAQuery<Long> countQuery = queryFactory
+                .select(Wildcard.count)
+                .from(item)
+                .where(dtypeEq(dtype));
+
+        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
+    }
+
+    private BooleanExpression dtypeEq(String dtype) {
+        if (!StringUtils.hasText(dtype)) {
+            return null;
+        }
+        Class<? extends Item> type = DTYPES.get(dtype);
+        if (type == null) {
+            throw new UnsupportedParameterException("unknown dtype: " + dtype);
+        }
+        return item.instanceOf(type);
+    }
+
+    private OrderSpecifier<?>[] orderSpecifiers(Sort sort) {
+        List<OrderSpecifier<?>> orders = new ArrayList<>();
+        for (Sort.Order order : sort) {
+            ComparableExpressionBase<?> path = switch (order.getProperty()) {
+                case "name" -> item.name;
+                case "price" -> item.price;
+                default -> null;
+            };
+            if (path != null) {
+                orders.add(order.isAscending() ? path.asc() : path.desc());
+            }
+        }
+        orders.add(item.id.asc());
+        return orders.toArray(OrderSpecifier[]::new);
+    }
+}
@@ -0,0 +1,48 @@
+package jpabook.jpashop.repository.category;
+
+import jpabook.jpashop.domain.Category;
+import jpabook.jpashop.domain.item.Item;
+import jpabook.jpashop.repository.category.dto.CategoryFlatDto;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Transactional(readOnly = true)
+public interface CategoryRepository extends JpaRepository<Category, Long>, CategoryRepositoryCustom {
+
+    // 하위 트리 전체 (자기 자신 포함) - path prefix 인덱스 range scan 한 번
+    @Query("select c from Category c where c.path like :path% order by c.path")
+    List<Category> findSubtree(@Param("path") String path);
+
+    // 하위 트리에 속한 상품 전체 - category_item 조인 한 번
+    @Query("select distinct i from Category c join c.items i where c.path like :path%")
+    List<Item> findItemsInSubtree(@Param("path") String path);
+
+    // 메뉴 트리 스냅샷용 (엔티티를 올리지 않고 path 순으로 전체 조회)
+    @Query("select new jpabook.jpashop.repository.category.dto.CategoryFlatDto(c.id, c.name, p.id, c.path, c.depth)" +
+            " from Category c left join c.parent p order by c.path")
+    List<CategoryFlatDto> findAllFlat();
+
+    // category_item 연결/해제 (컬렉션을 초기화하지 않고 한 행만 insert / delete)
+    @Query(value = "select count(*) from category_item where category_id = :categoryId and item_id = :itemId", nativeQuery = true)
+    long countLink(@Param("categoryId") Long categoryId, @Param("itemId") Long itemId);
+
+    @Modifying
+    @Query(value = "insert into category_item (category_id, item_id) values (:categoryId, :itemId)", nativeQuery = true)
+    int linkItem(@Param("categoryId") Long categoryId, @Param("itemId") Long itemId);
+
+    @Modifying
+    @Query(value = "delete from category_item where category_id = :categoryId and item_id = :itemId", nativeQuery = true)
+    int unlinkItem(@Param("categoryId") Long categoryId, @Param("itemId") Long itemId);
+
+    // 하위 트리 이동 시 자손들의 path, depth 를 한 번에 갱신한다.
+    @Modifying(clearAutomatically = true)
+    @Query("update Category c set c.path = concat(:newPath, substring(c.path, length(:oldPath) + 1))," +
+            " c.depth = c.depth + :depthDelta" +
+            " where c.path like concat(:oldPath, '%')")
+    int movePaths(@Param("oldPath") String oldPath, @Param("newPath") String newPath, @Param("depthDelta") int depthDelta);
+}
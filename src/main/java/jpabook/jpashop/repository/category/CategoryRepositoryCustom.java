@@ -0,0 +1,15 @@
+package jpabook.jpashop.repository.category;
+
+import jpabook.jpashop.repository.category.dto.CategoryItemCountDto;
+import jpabook.jpashop.repository.dto.ItemSummary;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+public interface CategoryRepositoryCustom {
+
+    Page<ItemSummary> findItemsByCategory(Long categoryId, boolean includeDescendants, Pageable pageable);
+
+    List<CategoryItemCountDto> countItemsPerCategory();
+}
@@ -0,0 +1,99 @@
+package jpabook.jpashop.repository.category;
+
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.JPQLQuery;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jpabook.jpashop.domain.QCategory;
+import jpabook.jpashop.domain.item.QItem;
+import jpabook.jpashop.repository.category.dto.CategoryItemCountDto;
+import jpabook.jpashop.repository.category.dto.QCategoryItemCountDto;
+import jpabook.jpashop.repository.dto.ItemSummary;
+import jpabook.jpashop.repository.dto.QItemSummary;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.List;
+
+import static jpabook.jpashop.domain.QCategory.category;
+import static jpabook.jpashop.domain.item.QItem.item;
+
+@RequiredArgsConstructor
+public class CategoryRepositoryCustomImpl implements CategoryRepositoryCustom {
+
+    private final JPAQueryFactory queryFactory;
+
+    /**
+     * 카테고리(또는 하위 트리)에 속한 상품 페이징 조회
+     * category_item 은 서브쿼리(in)로만 조인하므로 여러 카테고리에 속한 상품도 중복 없이 페이징된다.
+     */
+    @Override
+    public Page<ItemSummary> findItemsByCategory(Long categoryId, boolean includeDescendants, Pageable pageable) {
+        BooleanExpression inCategory = item.id.in(itemIdsInCategory(categoryId, includeDescendants));
+
+        List<ItemSummary> content = queryFactory
+                .select(new QItemSummary(
+                        item.id,
+                        item.name,
+                        item.price,
+                        item.stockQuantity))
+                .from(item)
+                .where(inCategory)
+                .orderBy(item.name.asc(), item.id.asc())
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+
+        JPAQuery<Long> countQuery = queryFactory
+                .select(item.count())
+                .from(item)
+                .where(inCategory);
+
+        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
+    }
+
+    /**
+     * 카테고리별 직접 연결된 상품 수 (category_item 만 group by)
+     */
+    @Override
+    public List<CategoryItemCountDto> countItemsPerCategory() {
+        QItem categoryItem = new QItem("categoryItem");
+        return queryFactory
+                .select(new QCategoryItemCountDto(
+                        category.id,
+                        category.name,
+                        categoryItem.id.count()))
+                .from(category)
+                .leftJoin(category.items, categoryItem)
+                .groupBy(category.id, category.name)
+                .fetch();
+    }
+
+    private JPQLQuery<Long> itemIdsInCategory(Long categoryId, boolean includeDescendants) {
+        QCategory linked = new QCategory("linked");
+        QItem linkedItem = new QItem("linkedItem");
+
+        return JPAExpressions
+                .select(linkedItem.id)
+                .from(linked)
+                .join(linked.items, linkedItem)
+                .where(includeDescendants
+                        ? linked.path.startsWith(findPath(categoryId))
+                        : linked.id.eq(categoryId));
+    }
+
+    private String findPath(Long categoryId) {
+        String path = queryFactory
+                .select(category.path)
+                .from(category)
+                .where(category.id.eq(categoryId))
+                .fetchOne();
+        if (path == null) {
+            throw new IllegalArgumentException("not found: " + categoryId);
+        }
+        return path;
+    }
+}
@@ -0,0 +1,21 @@
+package jpabook.jpashop.repository.category.dto;
+
+import lombok.Data;
+
+@Data
+public class CategoryFlatDto {
+
+    private Long id;
+    private String name;
+    private Long parentId;
+    private String path;
+    private int depth;
+
+    public CategoryFlatDto(Long id, String name, Long parentId, String path, int depth) {
+        this.id = id;
+        this.name = name;
+        this.parentId = parentId;
+        this.path = path;
+        this.depth = depth;
+    }
+}
@@ -0,0 +1,19 @@
+package jpabook.jpashop.repository.category.dto;
+
+import com.querydsl.core.annotations.QueryProjection;
+import lombok.Data;
+
+@Data
+public class CategoryItemCountDto {
+
+    private Long categoryId;
+    private String name;
+    private long itemCount;
+
+    @QueryProjection
+    public CategoryItemCountDto(Long categoryId, String name, long itemCount) {
+        this.categoryId = categoryId;
+        this.name = name;
+        this.itemCount = itemCount;
+    }
+}
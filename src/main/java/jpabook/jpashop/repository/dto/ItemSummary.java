@@ -0,0 +1,24 @@
+package jpabook.jpashop.repository.dto;
+
+import com.querydsl.core.annotations.QueryProjection;
+import lombok.Data;
+
+/**
+ * 상품 조회용 경량 프로젝션 (Book, Album, Movie 하위 컬럼은 조회하지 않는다.)
+ */
+@Data
+public class ItemSummary {
+
+    private Long id;
+    private String name;
+    private int price;
+    private int stockQuantity;
+
+    @QueryProjection
+    public ItemSummary(Long id, String name, int price, int stockQuantity) {
+        this.id = id;
+        this.name = name;
+        this.price = price;
+        this.stockQuantity = stockQuantity;
+    }
+}
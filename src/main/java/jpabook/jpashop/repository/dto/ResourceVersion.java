@@ -0,0 +1,65 @@
+package jpabook.jpashop.repository.dto;
+
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 조건부 GET(ETag / Last-Modified)용 버전 프로브 결과
+ * - 단건: 엔티티의 lastModifiedDate, count = 1
+ * - 목록: max(lastModifiedDate) + count (삭제는 count 로 드러난다.)
+ * - 응답에 연관 엔티티(team 등) 값이 들어가면 그 수정 시각도 함께 받아 더 늦은 쪽을 쓴다.
+ * ETag 에는 응답 표현(json / cbor / x-jackson-smile)을 넣어 표현마다 다른 태그가 되게 한다. (ConditionalGet)
+ */
+@Getter
+@ToString
+public class ResourceVersion {
+
+    private final LocalDateTime lastModifiedDate; // 빈 목록이면 null
+    private final long count;
+
+    public ResourceVersion(LocalDateTime lastModifiedDate, Long count) {
+        this.lastModifiedDate = lastModifiedDate;
+        this.count = count != null ? count : 0L;
+    }
+
+    public ResourceVersion(LocalDateTime lastModifiedDate, LocalDateTime associationLastModifiedDate, Long count) {
+        this(later(lastModifiedDate, associationLastModifiedDate), count);
+    }
+
+    /**
+     * representation 은 응답 미디어 타입의 subtype (json, cbor, x-jackson-smile)
+     */
+    public String eTag(String representation) {
+        return "W/\"" + Long.toHexString(epochMicros()) + "-" + Long.toHexString(count) + "-" + representation + "\"";
+    }
+
+    /**
+     * Last-Modified 헤더 값, 알 수 없으면 -1 (WebRequest.checkNotModified 가 무시한다.)
+     */
+    public long lastModifiedMillis() {
+        return lastModifiedDate != null ? toInstant().toEpochMilli() : -1L;
+    }
+
+    private long epochMicros() {
+        if (lastModifiedDate == null) {
+            return 0L;
+        }
+        Instant instant = toInstant();
+        return instant.getEpochSecond() * 1_000_000L + instant.getNano() / 1_000;
+    }
+
+    private static LocalDateTime later(LocalDateTime a, LocalDateTime b) {
+        if (a == null) {
+            return b;
+        }
+        return b != null && b.isAfter(a) ? b : a;
+    }
+
+    private Instant toInstant() {
+        return lastModifiedDate.atZone(ZoneId.systemDefault()).toInstant();
+    }
+}
@@ -0,0 +1,75 @@
+package jpabook.jpashop.repository.member;
+
+import jpabook.jpashop.service.dto.MemberImportRow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 회원 일괄 등록용 JDBC 접근 (엔티티 / 영속성 컨텍스트를 거치지 않는다.)
+ * IDENTITY 전략이라 JPA 로는 insert 를 batch 로 묶을 수 없으므로 JDBC batch 를 사용한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class MemberJdbcRepository {
+
+    public static final String IMPORT_AUDITOR = "member-import";
+
+    private static final String INSERT_MEMBER =
+            "insert into member (username, age, city, street, zipcode, created_date, last_modified_date, created_by, last_modified_by)" +
+                    " values (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * 이미 존재하는 회원명 (uk_member_username 으로 IN 조회, 호출하는 쪽에서 names 크기를 제한한다.)
+     */
+    public Set<String> findExistingNames(Collection<String> names) {
+        if (names.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(jdbcTemplate.queryForList(
+                "select username from member where username in (:names)",
+                Map.of("names", names), String.class));
+    }
+
+    /**
+     * @return 행별 insert count
+     */
+    public int[] insertAll(List<MemberImportRow> rows) {
+        if (rows.isEmpty()) {
+            return new int[0];
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        return jdbcTemplate.getJdbcTemplate().batchUpdate(INSERT_MEMBER, rows, rows.size(), (ps, row) -> {
+            ps.setString(1, row.getName());
+            ps.setInt(2, row.getAge());
+            setNullable(ps, 3, row.getCity());
+            setNullable(ps, 4, row.getStreet());
+            setNullable(ps, 5, row.getZipcode());
+            ps.setTimestamp(6, now);
+            ps.setTimestamp(7, now);
+            ps.setString(8, IMPORT_AUDITOR);
+            ps.setString(9, IMPORT_AUDITOR);
+        })[0];
+    }
+
+    private static void setNullable(PreparedStatement ps, int index, String value) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, Types.VARCHAR);
+        } else {
+            ps.setString(index, value);
+        }
+    }
+}
@@ -62,7 +62,7 @@ public class MemberJpaRepository {
 
     public int bulkAgePlus(int age) {
         return em.createQuery(
-                        "update Member m set m.age = m.age + 1 " +
+                        "update Member m set m.age = m.age + 1, m.lastModifiedDate = local datetime " +
                                 "where m.age >= :age")
                 .setParameter("age", age)
                 .executeUpdate();
@@ -3,7 +3,9 @@ package jpabook.jpashop.repository.member;
 import jakarta.persistence.LockModeType;
 import jakarta.persistence.QueryHint;
 import jpabook.jpashop.domain.Member;
+import jpabook.jpashop.repository.dto.ResourceVersion;
 import jpabook.jpashop.repository.member.dto.MemberDto;
+import jpabook.jpashop.repository.member.dto.MemberSummary;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
@@ -58,12 +60,22 @@ public interface MemberRepository
     // bulk query
     // @Modifying // Modifying 가 있어야 executeUpdate 가 실행 (없으면 singleResult() 같은 메서드가 실행)
     @Modifying(clearAutomatically = true) // clearAutomatically true 로 설정할 경우, 쿼리가 실행되고 영속성 컨텍스트를 날려준다.
-    @Query("update Member m set m.age = m.age + 1 where m.age >= :age")
+    // lastModifiedDate 도 함께 갱신한다. (auditing 을 거치지 않으므로 ETag 가 낡지 않도록)
+    @Query("update Member m set m.age = m.age + 1, m.lastModifiedDate = local datetime where m.age >= :age")
     int bulkAgePlus(@Param("age") int age);
 
     @Query("select m from Member m left join fetch m.team t")
     List<Member> findMemberFetchJoin();
 
+    // 조건부 GET 용 버전 프로브 (엔티티를 로딩하지 않는다.)
+    @Query("select new jpabook.jpashop.repository.dto.ResourceVersion(m.lastModifiedDate, 1L) from Member m where m.id = :id")
+    Optional<ResourceVersion> findVersionById(@Param("id") Long id);
+
+    // 목록 응답에 팀 이름이 들어가므로 team 의 수정 시각도 본다. (다대일 left join 이라 count 는 그대로)
+    @Query("select new jpabook.jpashop.repository.dto.ResourceVersion(max(m.lastModifiedDate), max(t.lastModifiedDate), count(m))" +
+            " from Member m left join m.team t")
+    ResourceVersion findVersion();
+
     @Override
     @EntityGraph(attributePaths = {"team"})
     List<Member> findAll();
@@ -78,6 +90,20 @@ public interface MemberRepository
     @QueryHints(value = @QueryHint(name = "org.hibernate.readOnly", value = "true"))
     Member findReadOnlyByName(String name);
 
+    // 목록 화면 전용 프로젝션: 읽기 전용 + flush 하지 않음 (dirty checking 비용 제거)
+    @QueryHints(value = {
+            @QueryHint(name = "org.hibernate.readOnly", value = "true"),
+            @QueryHint(name = "org.hibernate.flushMode", value = "MANUAL")
+    })
+    @Query("select new jpabook.jpashop.repository.member.dto.MemberSummary(m.id, m.name, m.address) from Member m order by m.id")
+    List<MemberSummary> findMemberSummaries();
+
+    // 회원명 prefix 검색 (uk_member_username 인덱스 range scan, 상위 N 건만 조회)
+    // 입력값의 %, _ 는 escape() 로 이스케이프해 와일드카드로 해석되지 않게 한다.
+    @Query("select new jpabook.jpashop.repository.member.dto.MemberSummary(m.id, m.name)" +
+            " from Member m where m.name like ?#{escape([0])}% escape ?#{escapeCharacter()} order by m.name")
+    List<MemberSummary> findSummariesByNamePrefix(String prefix, Pageable pageable);
+
     @Lock(LockModeType.WRITE)
     List<Member> findLockByName(String name);
 }
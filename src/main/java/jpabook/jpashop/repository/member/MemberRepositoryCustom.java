@@ -1,8 +1,10 @@
 package jpabook.jpashop.repository.member;
 
 import jpabook.jpashop.domain.Member;
+import jpabook.jpashop.repository.dto.ResourceVersion;
 import jpabook.jpashop.repository.member.dto.MemberSearchCondition;
 import jpabook.jpashop.repository.member.dto.MemberTeamDto;
+import jpabook.jpashop.repository.support.SparseFields;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -17,4 +19,8 @@ public interface MemberRepositoryCustom {
     Page<MemberTeamDto> searchSimple(MemberSearchCondition condition, Pageable pageable);
 
     Page<MemberTeamDto> searchComplex(MemberSearchCondition condition, Pageable pageable);
+
+    Page<MemberTeamDto> searchComplex(MemberSearchCondition condition, Pageable pageable, SparseFields fields);
+
+    ResourceVersion findVersion(MemberSearchCondition condition);
 }
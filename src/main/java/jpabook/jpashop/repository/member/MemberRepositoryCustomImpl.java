@@ -1,6 +1,8 @@
 package jpabook.jpashop.repository.member;
 
 import com.querydsl.core.QueryResults;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.core.types.dsl.Wildcard;
@@ -8,9 +10,11 @@ import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManager;
 import jpabook.jpashop.domain.Member;
+import jpabook.jpashop.repository.dto.ResourceVersion;
 import jpabook.jpashop.repository.member.dto.MemberSearchCondition;
 import jpabook.jpashop.repository.member.dto.MemberTeamDto;
 import jpabook.jpashop.repository.member.dto.QMemberTeamDto;
+import jpabook.jpashop.repository.support.SparseFields;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -18,6 +22,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.util.StringUtils;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import static jpabook.jpashop.domain.QMember.member;
@@ -84,15 +89,42 @@ public class MemberRepositoryCustomImpl implements MemberRepositoryCustom {
 
     @Override
     public Page<MemberTeamDto> searchComplex(MemberSearchCondition cond, Pageable pageable) {
-        List<MemberTeamDto> content = queryFactory
-                .select(new QMemberTeamDto(
-                        member.id,
-                        member.name,
-                        member.age,
-                        team.id,
-                        team.name))
-                .from(member)
-                .leftJoin(member.team, team)
+        return searchComplex(cond, pageable, SparseFields.all());
+    }
+
+    /**
+     * fields 에 지정한 컬럼만 select 하고, 필요 없는 team 조인은 생략한다.
+     * - teamId 는 member.team_id (FK) 로 읽으므로 조인이 필요 없다.
+     * - team 조인은 teamName 을 조회하거나 teamName 조건이 있을 때만 건다.
+     */
+    @Override
+    public Page<MemberTeamDto> searchComplex(MemberSearchCondition cond, Pageable pageable, SparseFields fields) {
+        boolean teamNameCondition = StringUtils.hasText(cond.getTeamName());
+
+        List<Expression<?>> select = new ArrayList<>();
+        if (fields.includes("memberId")) {
+            select.add(member.id.as("memberId"));
+        }
+        if (fields.includes("name")) {
+            select.add(member.name);
+        }
+        if (fields.includes("age")) {
+            select.add(member.age);
+        }
+        if (fields.includes("teamId")) {
+            select.add(member.team.id.as("teamId"));
+        }
+        if (fields.includes("teamName")) {
+            select.add(team.name.as("teamName"));
+        }
+
+        JPAQuery<MemberTeamDto> contentQuery = queryFactory
+                .select(Projections.bean(MemberTeamDto.class, select.toArray(Expression[]::new)))
+                .from(member);
+        if (fields.includes("teamName") || teamNameCondition) {
+            contentQuery.leftJoin(member.team, team);
+        }
+        List<MemberTeamDto> content = contentQuery
                 .where(
                         nameEq(cond.getUsername()),
                         teamNameEq(cond.getTeamName()),
@@ -103,20 +135,41 @@ public class MemberRepositoryCustomImpl implements MemberRepositoryCustom {
                 .limit(pageable.getPageSize())
                 .fetch();
 
+        // 다대일 left join 은 건수에 영향이 없으므로 count 쿼리는 조건이 있을 때만 조인한다.
         JPAQuery<Long> countQuery = queryFactory
                 .select(Wildcard.count)
+                .from(member);
+        if (teamNameCondition) {
+            countQuery.leftJoin(member.team, team);
+        }
+        countQuery.where(
+                nameEq(cond.getUsername()),
+                teamNameEq(cond.getTeamName()),
+                ageBetween(cond.getAgeGoe(), cond.getAgeLoe())
+        );
+
+        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
+    }
+
+    /**
+     * 검색 결과의 버전 (조건부 GET 용): 같은 조건의 max(lastModifiedDate) + count
+     * 검색 결과에 팀 이름이 들어가므로 team 의 max(lastModifiedDate) 도 함께 본다. (팀 이름 변경)
+     */
+    @Override
+    public ResourceVersion findVersion(MemberSearchCondition cond) {
+        return queryFactory
+                .select(Projections.constructor(ResourceVersion.class,
+                        member.lastModifiedDate.max(),
+                        team.lastModifiedDate.max(),
+                        member.count()))
                 .from(member)
                 .leftJoin(member.team, team)
                 .where(
                         nameEq(cond.getUsername()),
                         teamNameEq(cond.getTeamName()),
                         ageBetween(cond.getAgeGoe(), cond.getAgeLoe())
-                );
-
-        // 페이지 시작이면서 컨텐츠 사이즈가 페이지 사이즈보다 작을 때 또는 마지막 페이지 일 때
-        // offset + 컨텐츠 사이즈를 더해서 전체 사이즈 구함, 마지막 페이지이면서 컨텐츠 사이즈가 페이지 사이즈보다 작을 때
-        // 쿼리를 생성하지 않음!!
-        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
+                )
+                .fetchOne();
     }
 
     private BooleanExpression nameEq(String name) {
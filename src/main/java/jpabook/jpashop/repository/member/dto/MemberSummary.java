@@ -0,0 +1,26 @@
+package jpabook.jpashop.repository.member.dto;
+
+import jpabook.jpashop.domain.Address;
+import lombok.Data;
+
+/**
+ * 회원 목록 화면용 읽기 전용 프로젝션 (엔티티가 아니므로 영속성 컨텍스트 스냅샷이 생기지 않는다.)
+ */
+@Data
+public class MemberSummary {
+
+    private Long id;
+    private String name;
+    private Address address;
+
+    public MemberSummary(Long id, String name) {
+        this.id = id;
+        this.name = name;
+    }
+
+    public MemberSummary(Long id, String name, Address address) {
+        this.id = id;
+        this.name = name;
+        this.address = address;
+    }
+}
@@ -1,14 +1,23 @@
 package jpabook.jpashop.repository.member.dto;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
 import com.querydsl.core.annotations.QueryProjection;
+import jpabook.jpashop.repository.support.SparseFields;
 import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Set;
 
 @Data
+@NoArgsConstructor // fields= 로 일부만 조회할 때 Projections.bean 으로 채운다.
+@JsonFilter(SparseFields.JSON_FILTER) // fields= 로 요청한 필드만 응답에 쓴다.
 public class MemberTeamDto {
 
+    public static final Set<String> FIELDS = Set.of("memberId", "name", "age", "teamId", "teamName");
+
     private Long memberId;
     private String name;
-    private int age;
+    private Integer age;
     private Long teamId;
     private String teamName;
 
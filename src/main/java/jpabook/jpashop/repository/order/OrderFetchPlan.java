@@ -0,0 +1,32 @@
+package jpabook.jpashop.repository.order;
+
+import jpabook.jpashop.exception.UnsupportedParameterException;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+
+/**
+ * Order 조회 시 함께 로딩할 범위
+ * - ToOne 관계는 엔티티 그래프(fetch join)로 한 번에 조회한다. (페이징에 영향 없음)
+ * - 컬렉션은 절대 join 하지 않고 batch fetch(IN 절)로 채운다. (페이징, 중복 row 문제 방지)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum OrderFetchPlan {
+
+    SUMMARY("summary", "Order.summary", false),
+    WITH_ITEMS("withItems", "Order.summary", true),
+    FULL("full", "Order.full", true);
+
+    private final String planName;
+    private final String entityGraph;
+    private final boolean loadItems;
+
+    public static OrderFetchPlan of(String planName) {
+        return Arrays.stream(values())
+                .filter(plan -> plan.planName.equalsIgnoreCase(planName))
+                .findFirst()
+                .orElseThrow(() -> new UnsupportedParameterException("unknown fetch plan: " + planName));
+    }
+}
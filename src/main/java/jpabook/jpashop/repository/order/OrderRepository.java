@@ -1,18 +1,43 @@
 package jpabook.jpashop.repository.order;
 
 import jpabook.jpashop.domain.Order;
+import jpabook.jpashop.domain.OrderStatus;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
 @Transactional(readOnly = true)
-public interface OrderRepository extends JpaRepository<Order, Long>, OrderRepositoryExtension {
+public interface OrderRepository extends JpaRepository<Order, Long>, OrderRepositoryExtension, OrderRepositoryCustom {
 
     @Query("select o from Order o join fetch o.member m join fetch o.delivery d")
     List<Order> findAllWithMemberAndDelivery();
 
     @Query("select o from Order o join fetch o.member m join fetch o.delivery d join fetch o.orderItems oi join fetch oi.item i")
     List<Order> findAllWithItem();
+
+    // total_price 컬럼으로 필터 / 정렬 (ex. sort=totalPrice,desc)
+    Page<Order> findByTotalPriceGreaterThanEqual(int minTotalPrice, Pageable pageable);
+
+    @Query("select coalesce(sum(o.totalPrice), 0) from Order o where o.status = :status")
+    long sumTotalPrice(@Param("status") OrderStatus status);
+
+    @Query("select max(o.id) from Order o")
+    Long findMaxId();
+
+    /**
+     * total_price 백필 (order id 구간 단위)
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "update orders o set total_price = (" +
+            " select coalesce(sum(oi.order_price * oi.count), 0) from order_item oi where oi.order_id = o.order_id)" +
+            " where o.order_id > :fromId and o.order_id <= :toId",
+            nativeQuery = true)
+    int backfillTotalPrice(@Param("fromId") long fromId, @Param("toId") long toId);
 }
@@ -0,0 +1,11 @@
+package jpabook.jpashop.repository.order;
+
+import jpabook.jpashop.domain.Order;
+import jpabook.jpashop.domain.OrderSearch;
+
+import java.util.List;
+
+public interface OrderRepositoryCustom {
+
+    List<Order> search(OrderSearch orderSearch, int limit);
+}
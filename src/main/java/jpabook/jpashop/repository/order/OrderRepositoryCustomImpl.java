@@ -0,0 +1,78 @@
+package jpabook.jpashop.repository.order;
+
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jpabook.jpashop.domain.DeliveryStatus;
+import jpabook.jpashop.domain.Order;
+import jpabook.jpashop.domain.OrderSearch;
+import jpabook.jpashop.domain.OrderStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.util.StringUtils;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static jpabook.jpashop.domain.QDelivery.delivery;
+import static jpabook.jpashop.domain.QMember.member;
+import static jpabook.jpashop.domain.QOrder.order;
+
+@RequiredArgsConstructor
+public class OrderRepositoryCustomImpl implements OrderRepositoryCustom {
+
+    private final JPAQueryFactory queryFactory;
+
+    /**
+     * 주문 검색 (조건이 null 이면 무시)
+     * 자주 쓰는 조합은 Order 의 복합 인덱스로 받는다.
+     * - 회원 + 기간 -> idx_order_member_date
+     * - 상태 + 기간 -> idx_order_status_date
+     * - 기간 -> idx_order_order_date
+     */
+    @Override
+    public List<Order> search(OrderSearch orderSearch, int limit) {
+        return queryFactory
+                .selectFrom(order)
+                .join(order.member, member).fetchJoin()
+                .join(order.delivery, delivery).fetchJoin()
+                .where(
+                        memberIdEq(orderSearch.getMemberId()),
+                        orderStatusEq(orderSearch.getOrderStatus()),
+                        orderDateGoe(orderSearch.getOrderDateFrom()),
+                        orderDateLt(orderSearch.getOrderDateTo()),
+                        deliveryStatusEq(orderSearch.getDeliveryStatus()),
+                        totalPriceGoe(orderSearch.getMinTotalPrice()),
+                        memberNameLike(orderSearch.getMemberName()))
+                .orderBy(order.orderDate.desc(), order.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    private BooleanExpression memberIdEq(Long memberId) {
+        return memberId != null ? order.member.id.eq(memberId) : null;
+    }
+
+    private BooleanExpression orderStatusEq(OrderStatus orderStatus) {
+        return orderStatus != null ? order.status.eq(orderStatus) : null;
+    }
+
+    private BooleanExpression orderDateGoe(LocalDate from) {
+        return from != null ? order.orderDate.goe(from.atStartOfDay()) : null;
+    }
+
+    // to 당일까지 포함하도록 다음날 0시 미만으로 비교한다. (컬럼에 함수를 씌우지 않아 인덱스 range scan 유지)
+    private BooleanExpression orderDateLt(LocalDate to) {
+        return to != null ? order.orderDate.lt(to.plusDays(1).atStartOfDay()) : null;
+    }
+
+    private BooleanExpression deliveryStatusEq(DeliveryStatus deliveryStatus) {
+        return deliveryStatus != null ? delivery.status.eq(deliveryStatus) : null;
+    }
+
+    private BooleanExpression totalPriceGoe(Integer minTotalPrice) {
+        return minTotalPrice != null ? order.totalPrice.goe(minTotalPrice) : null;
+    }
+
+    private BooleanExpression memberNameLike(String memberName) {
+        return StringUtils.hasText(memberName) ? member.name.like(memberName) : null;
+    }
+}
@@ -1,10 +1,15 @@
 package jpabook.jpashop.repository.order;
 
+import jpabook.jpashop.domain.Order;
 import jpabook.jpashop.repository.order.simplequery.OrderSimpleQueryDto;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 
 import java.util.List;
 
 public interface OrderRepositoryExtension {
 
     List<OrderSimpleQueryDto> findOrderDtos();
+
+    Page<Order> findPage(OrderFetchPlan plan, Pageable pageable);
 }
@@ -1,8 +1,14 @@
 package jpabook.jpashop.repository.order;
 
 import jakarta.persistence.EntityManager;
+import jpabook.jpashop.domain.Order;
+import jpabook.jpashop.domain.OrderItem;
 import jpabook.jpashop.repository.order.simplequery.OrderSimpleQueryDto;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.Hibernate;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -16,10 +22,37 @@ public class OrderRepositoryExtensionImpl implements OrderRepositoryExtension{
     @Override
     public List<OrderSimpleQueryDto> findOrderDtos() {
         return em.createQuery(
-                        "select new jpabook.jpashop.repository.simplequery.OrderSimpleQueryDto(" + "o.id, m.name, o.orderDate, o.status, d.address) " +
+                        "select new jpabook.jpashop.repository.order.simplequery.OrderSimpleQueryDto(" + "o.id, m.name, o.orderDate, o.status, d.address) " +
                                 " from Order o" +
                                 " join o.member m" +
                                 " join o.delivery d", OrderSimpleQueryDto.class)
                 .getResultList();
     }
+
+    /**
+     * fetch plan 에 따라 Order 페이지를 조회한다.
+     * 엔티티 그래프에는 ToOne 만 있으므로 limit / offset 이 SQL 에 그대로 적용되고,
+     * 컬렉션(orderItems -> item)은 현재 트랜잭션 안에서 batch fetch 로 초기화한다.
+     */
+    @Override
+    public Page<Order> findPage(OrderFetchPlan plan, Pageable pageable) {
+        List<Order> orders = em.createQuery("select o from Order o order by o.id desc", Order.class)
+                .setHint("jakarta.persistence.fetchgraph", em.getEntityGraph(plan.getEntityGraph()))
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+
+        if (plan.isLoadItems()) {
+            for (Order order : orders) {
+                Hibernate.initialize(order.getOrderItems()); // 100 건 단위 IN 절
+                for (OrderItem orderItem : order.getOrderItems()) {
+                    Hibernate.initialize(orderItem.getItem()); // 100 건 단위 IN 절
+                }
+            }
+        }
+
+        return PageableExecutionUtils.getPage(orders, pageable, () -> em.createQuery(
+                        "select count(o) from Order o", Long.class)
+                .getSingleResult());
+    }
 }
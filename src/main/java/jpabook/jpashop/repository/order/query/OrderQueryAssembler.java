@@ -0,0 +1,36 @@
+package jpabook.jpashop.repository.order.query;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * order id 순으로 정렬된 flat row 를 OrderQueryDto 로 묶는다.
+ * 정렬되어 있으므로 groupingBy 용 key 객체나 HashMap 없이 앞 row 의 id(long) 와 비교하며 한 번에 조립한다.
+ */
+public final class OrderQueryAssembler {
+
+    private OrderQueryAssembler() {
+    }
+
+    public static List<OrderQueryDto> groupByOrder(List<OrderFlatDto> rows) {
+        List<OrderQueryDto> result = new ArrayList<>();
+        OrderQueryDto current = null;
+        List<OrderItemQueryDto> currentItems = null;
+        long currentId = 0;
+
+        for (OrderFlatDto row : rows) {
+            long orderId = row.getOrderId();
+            if (current == null || orderId != currentId) {
+                if (current != null && orderId < currentId) {
+                    throw new IllegalArgumentException("rows must be ordered by order id: " + orderId + " after " + currentId);
+                }
+                currentId = orderId;
+                currentItems = new ArrayList<>();
+                current = new OrderQueryDto(orderId, row.getName(), row.getOrderDate(), row.getOrderStatus(), row.getAddress(), currentItems);
+                result.add(current);
+            }
+            currentItems.add(new OrderItemQueryDto(orderId, row.getItemName(), row.getOrderPrice(), row.getCount()));
+        }
+        return result;
+    }
+}
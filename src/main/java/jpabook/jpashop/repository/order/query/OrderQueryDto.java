@@ -1,17 +1,25 @@
 package jpabook.jpashop.repository.order.query;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
 import jpabook.jpashop.domain.Address;
 import jpabook.jpashop.domain.OrderStatus;
+import jpabook.jpashop.repository.support.SparseFields;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
 
 @Data
 @EqualsAndHashCode(of = "orderId")
+@NoArgsConstructor // fields= 로 일부만 조회할 때 Projections.bean 으로 채운다.
+@JsonFilter(SparseFields.JSON_FILTER) // fields= 로 요청한 필드만 응답에 쓴다.
 public class OrderQueryDto {
 
+    public static final Set<String> FIELDS = Set.of("orderId", "name", "orderDate", "orderStatus", "address", "orderItems");
+
     private Long orderId;
     private String name;
     private LocalDateTime orderDate;
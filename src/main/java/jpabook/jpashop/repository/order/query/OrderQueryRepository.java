@@ -1,18 +1,29 @@
 package jpabook.jpashop.repository.order.query;
 
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManager;
+import jpabook.jpashop.repository.support.SparseFields;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
+import static jpabook.jpashop.domain.QDelivery.delivery;
+import static jpabook.jpashop.domain.QMember.member;
+import static jpabook.jpashop.domain.QOrder.order;
+
 @Repository
 @RequiredArgsConstructor
 public class OrderQueryRepository {
 
     private final EntityManager em;
+    private final JPAQueryFactory queryFactory;
 
     public List<OrderQueryDto> findOrderQueryDtos(int offset, int limit) {
         List<OrderQueryDto> result = findOrders(offset, limit);
@@ -21,10 +32,55 @@ public class OrderQueryRepository {
     }
 
     public List<OrderQueryDto> findAllByDtoOptimization(int offset, int limit) {
-        
-        // OrderQueryDto 에 직접 조회된 엔티티를 담는다. 
-        List<OrderQueryDto> result = findOrders(offset, limit);
-        
+        return findAllByDtoOptimization(offset, limit, SparseFields.all());
+    }
+
+    /**
+     * fields 에 지정한 필드만 select 하고, 필요 없는 조인과 orderItems 조회는 생략한다.
+     * - member 조인은 name, delivery 조인은 address 를 요청했을 때만 건다. (주문은 항상 회원 / 배송을 가진다.)
+     * - orderId 는 orderItems 매칭 키라서 항상 조회하고, 요청하지 않았으면 응답 직전에 비운다.
+     */
+    public List<OrderQueryDto> findAllByDtoOptimization(int offset, int limit, SparseFields fields) {
+        List<Expression<?>> select = new ArrayList<>();
+        select.add(order.id.as("orderId"));
+        if (fields.includes("name")) {
+            select.add(member.name);
+        }
+        if (fields.includes("orderDate")) {
+            select.add(order.orderDate);
+        }
+        if (fields.includes("orderStatus")) {
+            select.add(order.status.as("orderStatus"));
+        }
+        if (fields.includes("address")) {
+            select.add(delivery.address);
+        }
+
+        // OrderQueryDto 에 직접 조회된 값을 담는다.
+        JPAQuery<OrderQueryDto> query = queryFactory
+                .select(Projections.bean(OrderQueryDto.class, select.toArray(Expression[]::new)))
+                .from(order);
+        if (fields.includes("name")) {
+            query.join(order.member, member);
+        }
+        if (fields.includes("address")) {
+            query.join(order.delivery, delivery);
+        }
+        List<OrderQueryDto> result = query
+                .offset(offset)
+                .limit(limit)
+                .fetch();
+
+        if (fields.includes("orderItems") && !result.isEmpty()) {
+            attachOrderItems(result);
+        }
+        if (!fields.includes("orderId")) {
+            result.forEach(o -> o.setOrderId(null));
+        }
+        return result;
+    }
+
+    private void attachOrderItems(List<OrderQueryDto> result) {
         // 조회된 DTO 에 포함된 ORDER_ID 를 List 형식으로 뽑는다. (DTO 에는 orderItems 에 값은 현재 담겨져 있지 않음)
         List<Long> orderIds = result.stream()
                 .map(OrderQueryDto::getOrderId)
@@ -32,7 +88,7 @@ public class OrderQueryRepository {
 
         // orderIds 를 IN 절을 활용하여 OrderItemQueryDto 에 담는다. 
         List<OrderItemQueryDto> orderItems = em.createQuery(
-                        "select new jpabook.jpashop.repository.query.OrderItemQueryDto(oi.order.id, i.name, oi.orderPrice, oi.count) from OrderItem oi" +
+                        "select new jpabook.jpashop.repository.order.query.OrderItemQueryDto(oi.order.id, i.name, oi.orderPrice, oi.count) from OrderItem oi" +
                                 " join oi.item i" +
                                 " where oi.order.id in :orderIds", OrderItemQueryDto.class)
                 .setParameter("orderIds", orderIds)
@@ -44,26 +100,31 @@ public class OrderQueryRepository {
 
         // result 를 순회하며, orderId 를 매칭시켜 orderItem 를 담는다.
         result.forEach(o -> o.setOrderItems(orderItemMap.get(o.getOrderId())));
-
-        // 결과 반환
-        return result;
     }
 
     public List<OrderFlatDto> findAllByDtoFlat(int offset, int limit) {
         List<OrderFlatDto> resultList = em.createQuery(
-                        "select new jpabook.jpashop.repository.query.OrderFlatDto(o.id, m.name, o.orderDate, o.status, d.address, i.name, oi.orderPrice, oi.count)" +
+                        "select new jpabook.jpashop.repository.order.query.OrderFlatDto(o.id, m.name, o.orderDate, o.status, d.address, i.name, oi.orderPrice, oi.count)" +
                                 " from Order o" +
                                 " join o.member m" +
                                 " join o.delivery d" +
                                 " join o.orderItems oi" +
-                                " join oi.item i", OrderFlatDto.class)
+                                " join oi.item i" +
+                                " order by o.id, oi.id", OrderFlatDto.class)
                 .getResultList();
         return resultList;
     }
 
+    /**
+     * flat 조회 결과를 order id 순서대로 한 번에 묶는다. (OrderQueryAssembler)
+     */
+    public List<OrderQueryDto> findAllByDtoFlatGrouped(int offset, int limit) {
+        return OrderQueryAssembler.groupByOrder(findAllByDtoFlat(offset, limit));
+    }
+
     private List<OrderItemQueryDto> findOrderItems(Long orderId) {
         return em.createQuery(
-                "select new jpabook.jpashop.repository.query.OrderItemQueryDto(oi.order.id, i.name, oi.orderPrice, oi.count) from OrderItem oi" +
+                "select new jpabook.jpashop.repository.order.query.OrderItemQueryDto(oi.order.id, i.name, oi.orderPrice, oi.count) from OrderItem oi" +
                         " join oi.item i" +
                         " where oi.order.id = :orderId", OrderItemQueryDto.class)
                 .setParameter("orderId", orderId)
@@ -72,7 +133,7 @@ public class OrderQueryRepository {
 
     private List<OrderQueryDto> findOrders(int offset, int limit) {
         return em.createQuery(
-                "select new jpabook.jpashop.repository.query.OrderQueryDto(o.id, m.name, o.orderDate, o.status, d.address) " +
+                "select new jpabook.jpashop.repository.order.query.OrderQueryDto(o.id, m.name, o.orderDate, o.status, d.address) " +
                         " from Order o" +
                         " join o.member m" +
                         " join o.delivery d", OrderQueryDto.class)
@@ -0,0 +1,48 @@
+package jpabook.jpashop.repository.order.summary;
+
+import jpabook.jpashop.domain.OrderSummary;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Transactional(readOnly = true)
+public interface OrderSummaryRepository extends JpaRepository<OrderSummary, Long> {
+
+    // 최신 주문 순 (PK range scan)
+    @Query(value = "select s from OrderSummary s order by s.orderId desc",
+            countQuery = "select count(s) from OrderSummary s")
+    Page<OrderSummary> findLatest(Pageable pageable);
+
+    @Query("select s from OrderSummary s order by s.orderId")
+    List<OrderSummary> findAllOrderById();
+
+    @Query("select max(o.id) from Order o")
+    Long findMaxOrderId();
+
+    @Modifying
+    @Query(value = "delete from order_summary where order_id > :fromId and order_id <= :toId", nativeQuery = true)
+    int deleteRange(@Param("fromId") long fromId, @Param("toId") long toId);
+
+    /**
+     * 기존 주문으로 읽기 모델을 다시 채운다. (order id 구간 단위)
+     */
+    @Modifying
+    @Query(value = "insert into order_summary" +
+            " (order_id, member_name, order_date, order_status, city, street, zipcode, item_count, total_price)" +
+            " select o.order_id, m.username, o.order_date, o.order_status, d.city, d.street, d.zipcode," +
+            "  count(oi.order_item_id), coalesce(sum(oi.order_price * oi.count), 0)" +
+            " from orders o" +
+            " join member m on m.member_id = o.member_id" +
+            " join delivery d on d.delivery_id = o.delivery_id" +
+            " left join order_item oi on oi.order_id = o.order_id" +
+            " where o.order_id > :fromId and o.order_id <= :toId" +
+            " group by o.order_id, m.username, o.order_date, o.order_status, d.city, d.street, d.zipcode",
+            nativeQuery = true)
+    int insertRange(@Param("fromId") long fromId, @Param("toId") long toId);
+}
@@ -0,0 +1,48 @@
+package jpabook.jpashop.repository.outbox;
+
+import jpabook.jpashop.domain.OutboxEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Transactional(readOnly = true)
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * 지금 발행할 수 있는 미발행 이벤트를 저장 순서대로 조회 (idx_outbox_event_published_at)
+     * 격리됐거나 재시도 시각이 안 된 이벤트는 제외하고, 같은 주문의 뒤 이벤트도 순서를 지키기 위해 함께 기다린다.
+     * (다른 주문의 이벤트는 막지 않는다. 선행 이벤트 확인은 idx_outbox_event_aggregate_id)
+     */
+    @Query("select e from OutboxEvent e" +
+            " where e.publishedAt is null and e.failedAt is null" +
+            " and (e.nextAttemptAt is null or e.nextAttemptAt <= :now)" +
+            " and not exists (select p.id from OutboxEvent p" +
+            "   where p.aggregateId = e.aggregateId and p.id < e.id and p.publishedAt is null" +
+            "   and (p.failedAt is not null or p.nextAttemptAt > :now))" +
+            " order by e.id")
+    List<OutboxEvent> findUnpublished(@Param("now") LocalDateTime now, Pageable pageable);
+
+    List<OutboxEvent> findByAggregateIdOrderById(Long aggregateId);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update OutboxEvent e set e.publishedAt = :publishedAt where e.id in :ids")
+    int markPublished(@Param("ids") Collection<Long> ids, @Param("publishedAt") LocalDateTime publishedAt);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update OutboxEvent e set e.attempts = :attempts, e.nextAttemptAt = :nextAttemptAt where e.id = :id")
+    int retryLater(@Param("id") Long id, @Param("attempts") int attempts, @Param("nextAttemptAt") LocalDateTime nextAttemptAt);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update OutboxEvent e set e.attempts = :attempts, e.failedAt = :failedAt where e.id = :id")
+    int park(@Param("id") Long id, @Param("attempts") int attempts, @Param("failedAt") LocalDateTime failedAt);
+}
@@ -0,0 +1,91 @@
+package jpabook.jpashop.repository.revenue;
+
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jpabook.jpashop.repository.revenue.dto.*;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static jpabook.jpashop.domain.QMember.member;
+import static jpabook.jpashop.domain.item.QItem.item;
+import static jpabook.jpashop.domain.revenue.QDailyRevenue.dailyRevenue;
+import static jpabook.jpashop.domain.revenue.QItemDailyRevenue.itemDailyRevenue;
+import static jpabook.jpashop.domain.revenue.QMemberDailyRevenue.memberDailyRevenue;
+
+/**
+ * 매출 조회 (롤업 테이블만 읽는다. 기간은 from ~ to 양 끝 포함)
+ * 몇 달 범위라도 일 x 키 단위 행만 읽으므로 orders / order_item 전체를 스캔하지 않는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class RevenueReportRepository {
+
+    private final JPAQueryFactory queryFactory;
+
+    public List<DailyRevenueDto> findDaily(LocalDate from, LocalDate to) {
+        return queryFactory
+                .select(new QDailyRevenueDto(
+                        dailyRevenue.salesDate,
+                        dailyRevenue.orderCount,
+                        dailyRevenue.quantity,
+                        dailyRevenue.revenue))
+                .from(dailyRevenue)
+                .where(dailyRevenue.salesDate.between(from, to))
+                .orderBy(dailyRevenue.salesDate.asc())
+                .fetch();
+    }
+
+    public List<MonthlyRevenueDto> findMonthly(LocalDate from, LocalDate to) {
+        NumberExpression<Integer> year = dailyRevenue.salesDate.year();
+        NumberExpression<Integer> month = dailyRevenue.salesDate.month();
+        return queryFactory
+                .select(new QMonthlyRevenueDto(
+                        year,
+                        month,
+                        dailyRevenue.orderCount.sum(),
+                        dailyRevenue.quantity.sum(),
+                        dailyRevenue.revenue.sum()))
+                .from(dailyRevenue)
+                .where(dailyRevenue.salesDate.between(from, to))
+                .groupBy(year, month)
+                .orderBy(year.asc(), month.asc())
+                .fetch();
+    }
+
+    public List<ItemRevenueDto> findTopItems(LocalDate from, LocalDate to, int limit) {
+        NumberExpression<Long> revenue = itemDailyRevenue.revenue.sum();
+        return queryFactory
+                .select(new QItemRevenueDto(
+                        itemDailyRevenue.itemId,
+                        item.name,
+                        itemDailyRevenue.quantity.sum(),
+                        revenue))
+                .from(itemDailyRevenue)
+                .join(item).on(item.id.eq(itemDailyRevenue.itemId))
+                .where(itemDailyRevenue.salesDate.between(from, to))
+                .groupBy(itemDailyRevenue.itemId, item.name)
+                .orderBy(revenue.desc(), itemDailyRevenue.itemId.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    public List<MemberRevenueDto> findTopMembers(LocalDate from, LocalDate to, int limit) {
+        NumberExpression<Long> revenue = memberDailyRevenue.revenue.sum();
+        return queryFactory
+                .select(new QMemberRevenueDto(
+                        memberDailyRevenue.memberId,
+                        member.name,
+                        memberDailyRevenue.orderCount.sum(),
+                        revenue))
+                .from(memberDailyRevenue)
+                .join(member).on(member.id.eq(memberDailyRevenue.memberId))
+                .where(memberDailyRevenue.salesDate.between(from, to))
+                .groupBy(memberDailyRevenue.memberId, member.name)
+                .orderBy(revenue.desc(), memberDailyRevenue.memberId.asc())
+                .limit(limit)
+                .fetch();
+    }
+}
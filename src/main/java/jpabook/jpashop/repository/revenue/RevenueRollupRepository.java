@@ -0,0 +1,140 @@
+package jpabook.jpashop.repository.revenue;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+
+/**
+ * 매출 롤업 증감 / 재구성
+ * 증감은 merge 한 문장으로 upsert 한다. (조회 후 수정이나 update 후 insert 사이의 경쟁이 없다.)
+ * 그래도 같은 키의 첫 행이 동시에 만들어지면 unique 제약으로 한쪽이 실패하고, 그 이벤트는 폴러가 다시 전달한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class RevenueRollupRepository {
+
+    /** 유효한 주문(취소 제외)별 수량/금액 - 재구성용 */
+    private static final String ORDER_TOTALS =
+            "select o.order_id, o.member_id, cast(o.order_date as date) as sales_date," +
+                    " sum(oi.count) as quantity, sum(oi.order_price * oi.count) as revenue" +
+                    " from orders o join order_item oi on oi.order_id = o.order_id" +
+                    " where o.order_status = 'ORDER'" +
+                    " group by o.order_id, o.member_id, o.order_date";
+
+    private final EntityManager em;
+
+    public void addDaily(LocalDate salesDate, long orderCount, long quantity, long revenue) {
+        em.createNativeQuery(
+                        "merge into daily_revenue t" +
+                                " using (select cast(:salesDate as date) as sales_date) s" +
+                                " on t.sales_date = s.sales_date" +
+                                " when matched then update set" +
+                                " order_count = t.order_count + :orderCount," +
+                                " quantity = t.quantity + :quantity," +
+                                " revenue = t.revenue + :revenue" +
+                                " when not matched then insert (sales_date, order_count, quantity, revenue)" +
+                                " values (s.sales_date, :orderCount, :quantity, :revenue)")
+                .setParameter("salesDate", salesDate)
+                .setParameter("orderCount", orderCount)
+                .setParameter("quantity", quantity)
+                .setParameter("revenue", revenue)
+                .executeUpdate();
+    }
+
+    public void addItem(LocalDate salesDate, Long itemId, long quantity, long revenue) {
+        em.createNativeQuery(
+                        "merge into item_daily_revenue t" +
+                                " using (select cast(:salesDate as date) as sales_date, cast(:itemId as bigint) as item_id) s" +
+                                " on t.sales_date = s.sales_date and t.item_id = s.item_id" +
+                                " when matched then update set" +
+                                " quantity = t.quantity + :quantity," +
+                                " revenue = t.revenue + :revenue" +
+                                " when not matched then insert (sales_date, item_id, quantity, revenue)" +
+                                " values (s.sales_date, s.item_id, :quantity, :revenue)")
+                .setParameter("salesDate", salesDate)
+                .setParameter("itemId", itemId)
+                .setParameter("quantity", quantity)
+                .setParameter("revenue", revenue)
+                .executeUpdate();
+    }
+
+    public void addMember(LocalDate salesDate, Long memberId, long orderCount, long revenue) {
+        em.createNativeQuery(
+                        "merge into member_daily_revenue t" +
+                                " using (select cast(:salesDate as date) as sales_date, cast(:memberId as bigint) as member_id) s" +
+                                " on t.sales_date = s.sales_date and t.member_id = s.member_id" +
+                                " when matched then update set" +
+                                " order_count = t.order_count + :orderCount," +
+                                " revenue = t.revenue + :revenue" +
+                                " when not matched then insert (sales_date, member_id, order_count, revenue)" +
+                                " values (s.sales_date, s.member_id, :orderCount, :revenue)")
+                .setParameter("salesDate", salesDate)
+                .setParameter("memberId", memberId)
+                .setParameter("orderCount", orderCount)
+                .setParameter("revenue", revenue)
+                .executeUpdate();
+    }
+
+    /**
+     * 이벤트를 반영 처리로 기록한다. 이미 기록된 이벤트(재전달)면 false
+     */
+    public boolean markApplied(Long eventId) {
+        int inserted = em.createNativeQuery(
+                        "merge into revenue_applied_event t" +
+                                " using (select cast(:eventId as bigint) as outbox_event_id) s" +
+                                " on t.outbox_event_id = s.outbox_event_id" +
+                                " when not matched then insert (outbox_event_id, applied_at)" +
+                                " values (s.outbox_event_id, current_timestamp)")
+                .setParameter("eventId", eventId)
+                .executeUpdate();
+        return inserted > 0;
+    }
+
+    /**
+     * 지금까지 저장된 outbox 이벤트를 모두 반영 처리로 기록한다. (재구성 결과에 이미 포함됐으므로)
+     */
+    public int markAllApplied() {
+        return em.createNativeQuery(
+                        "insert into revenue_applied_event (outbox_event_id, applied_at)" +
+                                " select e.outbox_event_id, current_timestamp from outbox_event e" +
+                                " where not exists (select 1 from revenue_applied_event a" +
+                                " where a.outbox_event_id = e.outbox_event_id)")
+                .executeUpdate();
+    }
+
+    public void deleteAll() {
+        em.createNativeQuery("delete from daily_revenue").executeUpdate();
+        em.createNativeQuery("delete from item_daily_revenue").executeUpdate();
+        em.createNativeQuery("delete from member_daily_revenue").executeUpdate();
+    }
+
+    public int rebuildDaily() {
+        return em.createNativeQuery(
+                        "insert into daily_revenue (sales_date, order_count, quantity, revenue)" +
+                                " select s.sales_date, count(*), sum(s.quantity), sum(s.revenue)" +
+                                " from (" + ORDER_TOTALS + ") s" +
+                                " group by s.sales_date")
+                .executeUpdate();
+    }
+
+    public int rebuildItem() {
+        return em.createNativeQuery(
+                        "insert into item_daily_revenue (sales_date, item_id, quantity, revenue)" +
+                                " select cast(o.order_date as date), oi.item_id, sum(oi.count), sum(oi.order_price * oi.count)" +
+                                " from orders o join order_item oi on oi.order_id = o.order_id" +
+                                " where o.order_status = 'ORDER'" +
+                                " group by cast(o.order_date as date), oi.item_id")
+                .executeUpdate();
+    }
+
+    public int rebuildMember() {
+        return em.createNativeQuery(
+                        "insert into member_daily_revenue (sales_date, member_id, order_count, revenue)" +
+                                " select s.sales_date, s.member_id, count(*), sum(s.revenue)" +
+                                " from (" + ORDER_TOTALS + ") s" +
+                                " group by s.sales_date, s.member_id")
+                .executeUpdate();
+    }
+}
@@ -0,0 +1,23 @@
+package jpabook.jpashop.repository.revenue.dto;
+
+import com.querydsl.core.annotations.QueryProjection;
+import lombok.Data;
+
+import java.time.LocalDate;
+
+@Data
+public class DailyRevenueDto {
+
+    private LocalDate salesDate;
+    private long orderCount;
+    private long quantity;
+    private long revenue;
+
+    @QueryProjection
+    public DailyRevenueDto(LocalDate salesDate, long orderCount, long quantity, long revenue) {
+        this.salesDate = salesDate;
+        this.orderCount = orderCount;
+        this.quantity = quantity;
+        this.revenue = revenue;
+    }
+}
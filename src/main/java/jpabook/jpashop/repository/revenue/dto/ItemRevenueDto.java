@@ -0,0 +1,21 @@
+package jpabook.jpashop.repository.revenue.dto;
+
+import com.querydsl.core.annotations.QueryProjection;
+import lombok.Data;
+
+@Data
+public class ItemRevenueDto {
+
+    private Long itemId;
+    private String itemName;
+    private long quantity;
+    private long revenue;
+
+    @QueryProjection
+    public ItemRevenueDto(Long itemId, String itemName, long quantity, long revenue) {
+        this.itemId = itemId;
+        this.itemName = itemName;
+        this.quantity = quantity;
+        this.revenue = revenue;
+    }
+}
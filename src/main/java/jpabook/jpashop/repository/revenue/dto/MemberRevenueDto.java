@@ -0,0 +1,21 @@
+package jpabook.jpashop.repository.revenue.dto;
+
+import com.querydsl.core.annotations.QueryProjection;
+import lombok.Data;
+
+@Data
+public class MemberRevenueDto {
+
+    private Long memberId;
+    private String memberName;
+    private long orderCount;
+    private long revenue;
+
+    @QueryProjection
+    public MemberRevenueDto(Long memberId, String memberName, long orderCount, long revenue) {
+        this.memberId = memberId;
+        this.memberName = memberName;
+        this.orderCount = orderCount;
+        this.revenue = revenue;
+    }
+}
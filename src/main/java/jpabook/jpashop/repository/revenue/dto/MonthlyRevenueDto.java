@@ -0,0 +1,23 @@
+package jpabook.jpashop.repository.revenue.dto;
+
+import com.querydsl.core.annotations.QueryProjection;
+import lombok.Data;
+
+@Data
+public class MonthlyRevenueDto {
+
+    private int year;
+    private int month;
+    private long orderCount;
+    private long quantity;
+    private long revenue;
+
+    @QueryProjection
+    public MonthlyRevenueDto(int year, int month, long orderCount, long quantity, long revenue) {
+        this.year = year;
+        this.month = month;
+        this.orderCount = orderCount;
+        this.quantity = quantity;
+        this.revenue = revenue;
+    }
+}
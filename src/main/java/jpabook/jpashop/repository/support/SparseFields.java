@@ -0,0 +1,68 @@
+package jpabook.jpashop.repository.support;
+
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import jpabook.jpashop.exception.UnsupportedParameterException;
+import org.springframework.util.StringUtils;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * fields=name,teamName 처럼 응답에 필요한 필드만 지정한다. (sparse fieldset)
+ * 리포지토리는 includes() 로 select 절과 조인 여부를 정한다.
+ * - 지정하지 않으면 전체 필드
+ * - DTO 에 없는 필드를 지정하면 UnsupportedParameterException (400)
+ * 응답에서 빼는 것은 @JsonFilter(JSON_FILTER) 가 붙은 DTO 에만, 필드를 지정한 요청에서만 한다. (filters())
+ */
+public final class SparseFields {
+
+    public static final String JSON_FILTER = "sparseFields";
+
+    private static final SparseFields ALL = new SparseFields(null);
+
+    private final Set<String> fields; // null 이면 전체
+
+    private SparseFields(Set<String> fields) {
+        this.fields = fields;
+    }
+
+    public static SparseFields all() {
+        return ALL;
+    }
+
+    public static SparseFields parse(String fields, Set<String> allowed) {
+        if (!StringUtils.hasText(fields)) {
+            return ALL;
+        }
+        Set<String> result = new LinkedHashSet<>();
+        for (String field : fields.split(",")) {
+            String trimmed = field.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            if (!allowed.contains(trimmed)) {
+                throw new UnsupportedParameterException("지원하지 않는 필드입니다: " + trimmed);
+            }
+            result.add(trimmed);
+        }
+        return result.isEmpty() ? ALL : new SparseFields(Collections.unmodifiableSet(result));
+    }
+
+    public boolean includes(String field) {
+        return fields == null || fields.contains(field);
+    }
+
+    /**
+     * 컨트롤러가 MappingJacksonValue 에 담아 쓴다.
+     * 전체 필드면 null 값도 그대로 내보내고, 필드를 지정했으면 지정한 필드만 내보낸다.
+     */
+    public FilterProvider filters() {
+        SimpleBeanPropertyFilter filter = fields == null
+                ? SimpleBeanPropertyFilter.serializeAll()
+                : SimpleBeanPropertyFilter.filterOutAllExcept(fields);
+        return new SimpleFilterProvider().addFilter(JSON_FILTER, filter);
+    }
+}
@@ -0,0 +1,136 @@
+package jpabook.jpashop.service;
+
+import jpabook.jpashop.repository.category.CategoryRepository;
+import jpabook.jpashop.repository.category.dto.CategoryItemCountDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 카테고리별 상품 수 캐시
+ * 최초 조회 시 group by 한 번으로 채우고, 이후에는 연결/해제 커밋 시점에 증감만 반영한다.
+ * 적재 중에 커밋된 변경이 있으면 조회 결과에 포함됐는지 알 수 없으므로 그 결과는 공개하지 않고 다시 읽는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CategoryItemCountCache {
+
+    static final int MAX_LOAD_ATTEMPTS = 3;
+
+    private final CategoryRepository categoryRepository;
+
+    private final Object lock = new Object();
+    /** 공개된 스냅샷. null 이면 아직 적재 전이다. 공개 후에는 merge 로만 바꾼다. */
+    private volatile ConcurrentHashMap<Long, Long> counts;
+    /** 커밋 중(beforeCommit ~ afterCompletion)인 트랜잭션 수 (lock) */
+    private int inFlight;
+    /** 증감이 일어날 때마다 올라가는 번호 (lock) */
+    private long changes;
+
+    public Map<Long, Long> getCounts() {
+        return new HashMap<>(load());
+    }
+
+    public long getCount(Long categoryId) {
+        return load().getOrDefault(categoryId, 0L);
+    }
+
+    /**
+     * 트랜잭션 커밋 후에 증감을 반영한다. (롤백되면 반영하지 않음)
+     */
+    public void adjustAfterCommit(Long categoryId, long delta) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            adjust(categoryId, delta);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private boolean committing;
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                synchronized (lock) {
+                    inFlight++;
+                    changes++;
+                    committing = true;
+                }
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                synchronized (lock) {
+                    if (committing) {
+                        inFlight--;
+                    }
+                    if (status == STATUS_COMMITTED) {
+                        apply(categoryId, delta);
+                    }
+                }
+            }
+        });
+    }
+
+    public void reset() {
+        synchronized (lock) {
+            counts = null;
+            changes++;
+        }
+    }
+
+    private void adjust(Long categoryId, long delta) {
+        synchronized (lock) {
+            apply(categoryId, delta);
+        }
+    }
+
+    private void apply(Long categoryId, long delta) {
+        changes++;
+        ConcurrentHashMap<Long, Long> current = counts;
+        if (current != null) {
+            current.merge(categoryId, delta, Long::sum);
+        }
+    }
+
+    private Map<Long, Long> load() {
+        Map<Long, Long> current = counts;
+        if (current != null) {
+            return current;
+        }
+        ConcurrentHashMap<Long, Long> loaded = null;
+        for (int attempt = 0; attempt < MAX_LOAD_ATTEMPTS; attempt++) {
+            long before;
+            boolean quiet;
+            synchronized (lock) {
+                if (counts != null) {
+                    return counts;
+                }
+                before = changes;
+                quiet = inFlight == 0;
+            }
+            loaded = query();
+            synchronized (lock) {
+                if (counts != null) {
+                    return counts;
+                }
+                if (quiet && inFlight == 0 && changes == before) {
+                    counts = loaded;
+                    return loaded;
+                }
+            }
+        }
+        // 쓰기가 계속 겹치면 캐시하지 않고 마지막 조회 결과를 그대로 쓴다.
+        return loaded;
+    }
+
+    private ConcurrentHashMap<Long, Long> query() {
+        ConcurrentHashMap<Long, Long> loaded = new ConcurrentHashMap<>();
+        for (CategoryItemCountDto dto : categoryRepository.countItemsPerCategory()) {
+            loaded.put(dto.getCategoryId(), dto.getItemCount());
+        }
+        return loaded;
+    }
+}
@@ -0,0 +1,157 @@
+package jpabook.jpashop.service;
+
+import jpabook.jpashop.domain.Category;
+import jpabook.jpashop.domain.item.Item;
+import jpabook.jpashop.repository.ItemRepository;
+import jpabook.jpashop.repository.category.CategoryRepository;
+import jpabook.jpashop.repository.dto.ItemSummary;
+import jpabook.jpashop.service.dto.CategoryTree;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class CategoryService {
+
+    private final CategoryRepository categoryRepository;
+    private final ItemRepository itemRepository;
+    private final CategoryItemCountCache categoryItemCountCache;
+
+    // 메뉴 트리 스냅샷 (쓰기 커밋 후 무효화, 다음 조회 시 다시 만든다.)
+    private final Object menuTreeLock = new Object();
+    private volatile CategoryTree menuTree;
+    // 무효화될 때마다 올라가는 번호 (menuTreeLock)
+    private long menuTreeChanges;
+
+    public Long create(String name, Long parentId) {
+        Category category = new Category(name);
+        if (parentId != null) {
+            findCategory(parentId).addChildCategory(category);
+        }
+        categoryRepository.save(category);
+        invalidateMenuTree();
+        return category.getId();
+    }
+
+    /**
+     * 카테고리를 다른 부모 아래로 옮긴다. 자손들의 path 는 bulk update 한 번으로 갱신한다.
+     */
+    public void move(Long categoryId, Long newParentId) {
+        Category category = findCategory(categoryId);
+        Category newParent = findCategory(newParentId);
+        if (newParent.getPath().startsWith(category.getPath())) {
+            throw new IllegalArgumentException("cannot move a category under its own subtree: " + categoryId);
+        }
+
+        String oldPath = category.getPath();
+        int oldDepth = category.getDepth();
+        if (category.getParent() != null) {
+            category.getParent().getChild().remove(category);
+        }
+        newParent.addChildCategory(category);
+        categoryRepository.flush();
+
+        categoryRepository.movePaths(oldPath, category.getPath(), category.getDepth() - oldDepth);
+        invalidateMenuTree();
+    }
+
+    /**
+     * 상품을 카테고리에 연결한다. (Category.items 컬렉션을 초기화하지 않는다.)
+     */
+    public void linkItem(Long categoryId, Long itemId) {
+        findCategory(categoryId);
+        if (!itemRepository.existsById(itemId)) {
+            throw new IllegalArgumentException("not found: " + itemId);
+        }
+        if (categoryRepository.countLink(categoryId, itemId) > 0) {
+            return;
+        }
+        categoryRepository.linkItem(categoryId, itemId);
+        categoryItemCountCache.adjustAfterCommit(categoryId, 1);
+    }
+
+    public void unlinkItem(Long categoryId, Long itemId) {
+        if (categoryRepository.unlinkItem(categoryId, itemId) > 0) {
+            categoryItemCountCache.adjustAfterCommit(categoryId, -1);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public Page<ItemSummary> findItemsByCategory(Long categoryId, boolean includeDescendants, Pageable pageable) {
+        return categoryRepository.findItemsByCategory(categoryId, includeDescendants, pageable);
+    }
+
+    /**
+     * 카테고리 id -> 직접 연결된 상품 수
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, Long> countItemsPerCategory() {
+        return categoryItemCountCache.getCounts();
+    }
+
+    @Transactional(readOnly = true)
+    public List<Category> findSubtree(Long categoryId) {
+        return categoryRepository.findSubtree(findCategory(categoryId).getPath());
+    }
+
+    @Transactional(readOnly = true)
+    public List<Item> findItemsInSubtree(Long categoryId) {
+        return categoryRepository.findItemsInSubtree(findCategory(categoryId).getPath());
+    }
+
+    /**
+     * 조회 중에 무효화가 있었으면 그 트리는 커밋 전 데이터로 만들었을 수 있으므로 캐시하지 않고 그대로 반환한다.
+     */
+    @Transactional(readOnly = true)
+    public CategoryTree getMenuTree() {
+        CategoryTree tree = menuTree;
+        if (tree != null) {
+            return tree;
+        }
+        long before;
+        synchronized (menuTreeLock) {
+            before = menuTreeChanges;
+        }
+        tree = CategoryTree.of(categoryRepository.findAllFlat());
+        synchronized (menuTreeLock) {
+            if (menuTreeChanges == before) {
+                menuTree = tree;
+            }
+        }
+        return tree;
+    }
+
+    private Category findCategory(Long id) {
+        return categoryRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("not found: " + id));
+    }
+
+    private void invalidateMenuTree() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    clearMenuTree();
+                }
+            });
+        } else {
+            clearMenuTree();
+        }
+    }
+
+    private void clearMenuTree() {
+        synchronized (menuTreeLock) {
+            menuTree = null;
+            menuTreeChanges++;
+        }
+    }
+}
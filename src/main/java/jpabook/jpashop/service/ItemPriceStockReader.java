@@ -0,0 +1,99 @@
+package jpabook.jpashop.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jpabook.jpashop.service.dto.ItemPriceStock;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+/**
+ * CSV(itemId,price,stockQuantity) 또는 JSON 배열([{"itemId":1,"price":1000,"stockQuantity":10}, ...]) 을
+ * 한 행씩 읽어서 넘긴다. 전체를 메모리에 올리지 않는다.
+ */
+class ItemPriceStockReader {
+
+    private static final String CSV_HEADER = "itemid,";
+
+    private final ObjectMapper objectMapper;
+
+    ItemPriceStockReader(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    void readCsv(InputStream in, Consumer<ItemPriceStock> consumer) {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            String text;
+            long line = 0;
+            while ((text = reader.readLine()) != null) {
+                line++;
+                if (text.isBlank() || (line == 1 && text.trim().toLowerCase().startsWith(CSV_HEADER))) {
+                    continue;
+                }
+                consumer.accept(parseCsvLine(line, text));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    void readJson(InputStream in, Consumer<ItemPriceStock> consumer) {
+        try (JsonParser parser = objectMapper.getFactory().createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IllegalArgumentException("json body must be an array");
+            }
+            long line = 0;
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (token == null) {
+                    throw new IllegalArgumentException("json array is not closed");
+                }
+                line++;
+                if (token != JsonToken.START_OBJECT) {
+                    parser.skipChildren(); // 중첩 배열이면 통째로 건너뛴다.
+                    consumer.accept(ItemPriceStock.failure(line, null, "array element must be an object"));
+                    continue;
+                }
+                JsonNode node = objectMapper.readTree(parser);
+                consumer.accept(parseJsonNode(line, node));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static ItemPriceStock parseCsvLine(long line, String text) {
+        String[] columns = text.split(",");
+        if (columns.length != 3) {
+            return ItemPriceStock.failure(line, null, "expected 3 columns: itemId,price,stockQuantity");
+        }
+        try {
+            return ItemPriceStock.of(line,
+                    Long.parseLong(columns[0].trim()),
+                    Integer.parseInt(columns[1].trim()),
+                    Integer.parseInt(columns[2].trim()));
+        } catch (NumberFormatException e) {
+            return ItemPriceStock.failure(line, null, "invalid number: " + e.getMessage());
+        }
+    }
+
+    private static ItemPriceStock parseJsonNode(long line, JsonNode node) {
+        JsonNode itemId = node.get("itemId");
+        JsonNode price = node.get("price");
+        JsonNode stockQuantity = node.get("stockQuantity");
+        if (itemId == null || !itemId.canConvertToLong()
+                || price == null || !price.canConvertToInt()
+                || stockQuantity == null || !stockQuantity.canConvertToInt()) {
+            return ItemPriceStock.failure(line, itemId == null ? null : itemId.asLong(),
+                    "itemId, price, stockQuantity are required numbers");
+        }
+        return ItemPriceStock.of(line, itemId.asLong(), price.asInt(), stockQuantity.asInt());
+    }
+}
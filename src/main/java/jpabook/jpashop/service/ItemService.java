@@ -1,18 +1,52 @@
 package jpabook.jpashop.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
 import jpabook.jpashop.controller.BookForm;
 import jpabook.jpashop.domain.item.Item;
+import jpabook.jpashop.repository.ItemJdbcRepository;
 import jpabook.jpashop.repository.ItemRepository;
-import lombok.RequiredArgsConstructor;
+import jpabook.jpashop.service.dto.ItemImportResult;
+import jpabook.jpashop.service.dto.ItemPriceStock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.InputStream;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+@Slf4j
 @Service
 @Transactional
-@RequiredArgsConstructor
 public class ItemService {
 
     private final ItemRepository itemRepository;
+    private final ItemJdbcRepository itemJdbcRepository;
+    private final EntityManagerFactory entityManagerFactory;
+    private final TransactionTemplate transactionTemplate;
+    private final ItemPriceStockReader reader;
+    private final int importBatchSize;
+
+    public ItemService(ItemRepository itemRepository,
+                       ItemJdbcRepository itemJdbcRepository,
+                       EntityManagerFactory entityManagerFactory,
+                       PlatformTransactionManager transactionManager,
+                       ObjectMapper objectMapper,
+                       @Value("${app.item.import.batch-size:1000}") int importBatchSize) {
+        this.itemRepository = itemRepository;
+        this.itemJdbcRepository = itemJdbcRepository;
+        this.entityManagerFactory = entityManagerFactory;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.reader = new ItemPriceStockReader(objectMapper);
+        this.importBatchSize = importBatchSize;
+    }
 
     public void saveItem(Item item) {
         itemRepository.save(item);
@@ -25,4 +59,91 @@ public class ItemService {
         findItem.setPrice(form.getPrice());
         findItem.setStockQuantity(form.getStockQuantity());
     }
+
+    /**
+     * 가격/재고 일괄 반영 (CSV: itemId,price,stockQuantity)
+     * 엔티티를 조회하지 않고 batch 크기 단위로 JDBC batch update 후 커밋한다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ItemImportResult importPriceAndStockCsv(InputStream in) {
+        ItemImportResult result = new ItemImportResult();
+        BatchBuffer buffer = new BatchBuffer(result);
+        reader.readCsv(in, buffer::add);
+        buffer.flush();
+        evictItemCache();
+        return result;
+    }
+
+    /**
+     * 가격/재고 일괄 반영 (JSON 배열)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ItemImportResult importPriceAndStockJson(InputStream in) {
+        ItemImportResult result = new ItemImportResult();
+        BatchBuffer buffer = new BatchBuffer(result);
+        reader.readJson(in, buffer::add);
+        buffer.flush();
+        evictItemCache();
+        return result;
+    }
+
+    /**
+     * 2차 캐시에 남아 있는 Item 을 비운다. (JDBC 로 직접 변경했으므로)
+     */
+    private void evictItemCache() {
+        entityManagerFactory.getCache().evict(Item.class);
+    }
+
+    private class BatchBuffer {
+
+        private final ItemImportResult result;
+        private final List<ItemPriceStock> rows = new ArrayList<>(importBatchSize);
+
+        BatchBuffer(ItemImportResult result) {
+            this.result = result;
+        }
+
+        void add(ItemPriceStock row) {
+            if (!row.isValid()) {
+                result.fail(row, row.getError());
+                return;
+            }
+            rows.add(row);
+            if (rows.size() >= importBatchSize) {
+                flush();
+            }
+        }
+
+        void flush() {
+            if (rows.isEmpty()) {
+                return;
+            }
+            try {
+                int[] counts = transactionTemplate.execute(status -> itemJdbcRepository.updatePriceAndStock(rows));
+                record(rows, counts);
+            } catch (DataAccessException e) {
+                // batch 단위 실패 시 한 건씩 다시 반영하여 실패 행을 찾는다.
+                log.warn("item import batch failed, retrying row by row: {}", e.getMessage());
+                for (ItemPriceStock row : rows) {
+                    try {
+                        int[] counts = transactionTemplate.execute(status -> itemJdbcRepository.updatePriceAndStock(List.of(row)));
+                        record(List.of(row), counts);
+                    } catch (DataAccessException rowException) {
+                        result.fail(row, rowException.getMostSpecificCause().getMessage());
+                    }
+                }
+            }
+            rows.clear();
+        }
+
+        private void record(List<ItemPriceStock> batch, int[] counts) {
+            for (int i = 0; i < batch.size(); i++) {
+                if (counts[i] > 0 || counts[i] == Statement.SUCCESS_NO_INFO) {
+                    result.success();
+                } else {
+                    result.fail(batch.get(i), "not found: " + batch.get(i).getItemId());
+                }
+            }
+        }
+    }
 }
@@ -0,0 +1,107 @@
+package jpabook.jpashop.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jpabook.jpashop.service.dto.MemberImportRow;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+/**
+ * CSV(name,age,city,street,zipcode) 또는 JSON 배열([{"name":"kim","age":20,"city":"서울",...}, ...]) 을
+ * 한 행씩 읽어서 넘긴다. 전체를 메모리에 올리지 않는다.
+ */
+class MemberImportReader {
+
+    private static final String CSV_HEADER = "name,";
+
+    private final ObjectMapper objectMapper;
+
+    MemberImportReader(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    void readCsv(InputStream in, Consumer<MemberImportRow> consumer) {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            String text;
+            long line = 0;
+            while ((text = reader.readLine()) != null) {
+                line++;
+                if (text.isBlank() || (line == 1 && text.trim().toLowerCase().startsWith(CSV_HEADER))) {
+                    continue;
+                }
+                consumer.accept(parseCsvLine(line, text));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    void readJson(InputStream in, Consumer<MemberImportRow> consumer) {
+        try (JsonParser parser = objectMapper.getFactory().createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IllegalArgumentException("json body must be an array");
+            }
+            long line = 0;
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (token == null) {
+                    throw new IllegalArgumentException("json array is not closed");
+                }
+                line++;
+                if (token != JsonToken.START_OBJECT) {
+                    parser.skipChildren(); // 중첩 배열이면 통째로 건너뛴다.
+                    consumer.accept(MemberImportRow.failure(line, null, "array element must be an object"));
+                    continue;
+                }
+                JsonNode node = objectMapper.readTree(parser);
+                consumer.accept(parseJsonNode(line, node));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static MemberImportRow parseCsvLine(long line, String text) {
+        String[] columns = text.split(",", -1);
+        if (columns.length != 5) {
+            return MemberImportRow.failure(line, columns[0].trim(), "expected 5 columns: name,age,city,street,zipcode");
+        }
+        try {
+            int age = columns[1].isBlank() ? 0 : Integer.parseInt(columns[1].trim());
+            return MemberImportRow.of(line, columns[0], age,
+                    emptyToNull(columns[2]), emptyToNull(columns[3]), emptyToNull(columns[4]));
+        } catch (NumberFormatException e) {
+            return MemberImportRow.failure(line, columns[0].trim(), "invalid age: " + e.getMessage());
+        }
+    }
+
+    private static MemberImportRow parseJsonNode(long line, JsonNode node) {
+        JsonNode name = node.get("name");
+        JsonNode age = node.get("age");
+        if (name == null || !name.isTextual()) {
+            return MemberImportRow.failure(line, null, "name is required");
+        }
+        if (age != null && !age.isNull() && !age.canConvertToInt()) {
+            return MemberImportRow.failure(line, name.asText(), "age must be a number");
+        }
+        return MemberImportRow.of(line, name.asText(), age == null ? 0 : age.asInt(),
+                text(node, "city"), text(node, "street"), text(node, "zipcode"));
+    }
+
+    private static String text(JsonNode node, String field) {
+        JsonNode value = node.get(field);
+        return value == null || value.isNull() ? null : value.asText();
+    }
+
+    private static String emptyToNull(String value) {
+        return value.isBlank() ? null : value.trim();
+    }
+}
@@ -0,0 +1,154 @@
+package jpabook.jpashop.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jpabook.jpashop.repository.member.MemberJdbcRepository;
+import jpabook.jpashop.service.dto.MemberImportResult;
+import jpabook.jpashop.service.dto.MemberImportResult.Status;
+import jpabook.jpashop.service.dto.MemberImportRow;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * 회원 일괄 등록
+ * - 요청 안의 중복 이름은 메모리에서 거르고, 기존 회원명은 batch 단위 IN 조회로 한 번에 확인한다.
+ * - 남은 행은 JDBC batch insert 후 batch 단위로 커밋한다.
+ * - 동시에 가입한 이름과 충돌하면(uk_member_username) 해당 batch 만 한 건씩 다시 넣어 충돌 행을 찾는다.
+ */
+@Slf4j
+@Service
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class MemberImportService {
+
+    private static final String DUPLICATE_NAME_MESSAGE = "중복된 이름이 존재합니다.";
+
+    private final MemberJdbcRepository memberJdbcRepository;
+    private final MemberNameFilter memberNameFilter;
+    private final TransactionTemplate transactionTemplate;
+    private final MemberImportReader reader;
+    private final int batchSize;
+
+    public MemberImportService(MemberJdbcRepository memberJdbcRepository,
+                               MemberNameFilter memberNameFilter,
+                               PlatformTransactionManager transactionManager,
+                               ObjectMapper objectMapper,
+                               @Value("${app.member.import.batch-size:1000}") int batchSize) {
+        this.memberJdbcRepository = memberJdbcRepository;
+        this.memberNameFilter = memberNameFilter;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.reader = new MemberImportReader(objectMapper);
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * CSV: name,age,city,street,zipcode
+     */
+    public MemberImportResult importCsv(InputStream in) {
+        return importRows(consumer -> reader.readCsv(in, consumer));
+    }
+
+    /**
+     * JSON 배열
+     */
+    public MemberImportResult importJson(InputStream in) {
+        return importRows(consumer -> reader.readJson(in, consumer));
+    }
+
+    private MemberImportResult importRows(Consumer<Consumer<MemberImportRow>> source) {
+        MemberImportResult result = new MemberImportResult();
+        BatchBuffer buffer = new BatchBuffer(result);
+        source.accept(buffer::add);
+        buffer.flush();
+        return result.sortByLine();
+    }
+
+    private class BatchBuffer {
+
+        private final MemberImportResult result;
+        private final Set<String> seenNames = new HashSet<>();
+        private final List<MemberImportRow> rows = new ArrayList<>(batchSize);
+
+        BatchBuffer(MemberImportResult result) {
+            this.result = result;
+        }
+
+        void add(MemberImportRow row) {
+            if (!row.isValid()) {
+                result.fail(row, Status.INVALID, row.getError());
+                return;
+            }
+            if (!seenNames.add(row.getName())) {
+                result.fail(row, Status.DUPLICATE, "duplicated in request");
+                return;
+            }
+            rows.add(row);
+            if (rows.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        void flush() {
+            if (rows.isEmpty()) {
+                return;
+            }
+            List<MemberImportRow> newRows = excludeExisting(rows);
+            try {
+                transactionTemplate.execute(status -> memberJdbcRepository.insertAll(newRows));
+                newRows.forEach(this::created);
+            } catch (DataAccessException e) {
+                log.warn("member import batch failed, retrying row by row: {}", e.getMessage());
+                for (MemberImportRow row : newRows) {
+                    insertOne(row);
+                }
+            }
+            rows.clear();
+        }
+
+        private List<MemberImportRow> excludeExisting(List<MemberImportRow> batch) {
+            Set<String> existing = memberJdbcRepository.findExistingNames(
+                    batch.stream().map(MemberImportRow::getName).toList());
+            List<MemberImportRow> newRows = new ArrayList<>(batch.size());
+            for (MemberImportRow row : batch) {
+                if (existing.contains(row.getName())) {
+                    result.fail(row, Status.DUPLICATE, DUPLICATE_NAME_MESSAGE);
+                } else {
+                    newRows.add(row);
+                }
+            }
+            return newRows;
+        }
+
+        private void insertOne(MemberImportRow row) {
+            try {
+                transactionTemplate.execute(status -> memberJdbcRepository.insertAll(List.of(row)));
+                created(row);
+            } catch (DataIntegrityViolationException e) {
+                if (MemberServiceImpl.isDuplicateName(e)) {
+                    result.fail(row, Status.DUPLICATE, DUPLICATE_NAME_MESSAGE);
+                } else {
+                    result.fail(row, Status.FAILED, e.getMostSpecificCause().getMessage());
+                }
+            } catch (DataAccessException e) {
+                result.fail(row, Status.FAILED, e.getMostSpecificCause().getMessage());
+            }
+        }
+
+        private void created(MemberImportRow row) {
+            result.created(row);
+            memberNameFilter.add(row.getName());
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package jpabook.jpashop.service;
+
+import jpabook.jpashop.repository.member.MemberRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 기존 회원명 Bloom filter (app.member.name-filter.enabled=true 일 때만 사용)
+ * - mightExist == false 이면 그 이름은 확실히 없으므로 existsByName 조회를 생략한다.
+ * - 오탐(false positive)은 조회 한 번으로 끝나고, 다른 인스턴스에서 가입한 이름처럼 필터가 모르는 경우는
+ *   uk_member_username 제약이 막는다. (필터는 최적화일 뿐, 정합성은 unique 인덱스가 보장한다.)
+ * - 워밍업이 끝나기 전과 대량 적재(beginBulkLoad ~ endBulkLoad) 중에는 항상 "있을 수 있음"으로 답한다.
+ */
+@Slf4j
+@Component
+public class MemberNameFilter {
+
+    private final MemberRepository memberRepository;
+    private final boolean enabled;
+    private final AtomicLongArray bits;
+    private final long bitSize;
+    private final int hashCount;
+    private volatile boolean warmed;
+    private final AtomicInteger bulkLoads = new AtomicInteger();
+
+    public MemberNameFilter(MemberRepository memberRepository,
+                            @Value("${app.member.name-filter.enabled:false}") boolean enabled,
+                            @Value("${app.member.name-filter.expected-names:1000000}") long expectedNames,
+                            @Value("${app.member.name-filter.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.memberRepository = memberRepository;
+        this.enabled = enabled;
+        long size = enabled ? optimalBitSize(expectedNames, falsePositiveRate) : Long.SIZE;
+        this.bits = new AtomicLongArray((int) ((size + Long.SIZE - 1) / Long.SIZE));
+        this.bitSize = (long) bits.length() * Long.SIZE;
+        this.hashCount = optimalHashCount(expectedNames, bitSize);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (!enabled) {
+            return;
+        }
+        List<String> names = memberRepository.findUsernameList();
+        names.forEach(this::add);
+        warmed = true;
+        log.info("member name filter warmed: {} names, {} bits, {} hashes", names.size(), bitSize, hashCount);
+    }
+
+    /**
+     * 필터를 거치지 않고 회원이 들어오는 동안(합성 데이터, JDBC 일괄 적재) 필터를 쓰지 않는다.
+     */
+    public void beginBulkLoad() {
+        bulkLoads.incrementAndGet();
+    }
+
+    /**
+     * 적재된 이름을 다시 채운 뒤 필터를 쓴다. (비트는 더하기만 하므로 기존 이름도 그대로 남는다.)
+     */
+    public void endBulkLoad() {
+        try {
+            warmUp();
+        } finally {
+            bulkLoads.decrementAndGet();
+        }
+    }
+
+    public boolean mightExist(String name) {
+        if (!enabled || !warmed || bulkLoads.get() > 0 || name == null) {
+            return true;
+        }
+        long h1 = hash1(name);
+        long h2 = hash2(name);
+        for (int i = 0; i < hashCount; i++) {
+            long index = Math.floorMod(h1 + i * h2, bitSize);
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 가입 시점에 바로 추가한다. (롤백되더라도 오탐이 하나 늘 뿐이다.)
+     */
+    public void add(String name) {
+        if (!enabled || name == null) {
+            return;
+        }
+        long h1 = hash1(name);
+        long h2 = hash2(name);
+        for (int i = 0; i < hashCount; i++) {
+            long index = Math.floorMod(h1 + i * h2, bitSize);
+            int word = (int) (index >>> 6);
+            long mask = 1L << index;
+            long current;
+            do {
+                current = bits.get(word);
+            } while ((current & mask) == 0 && !bits.compareAndSet(word, current, current | mask));
+        }
+    }
+
+    private static long optimalBitSize(long expectedNames, double falsePositiveRate) {
+        return Math.max(Long.SIZE, (long) (-expectedNames * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2))));
+    }
+
+    private static int optimalHashCount(long expectedNames, long bitSize) {
+        return Math.max(1, (int) Math.round((double) bitSize / Math.max(1, expectedNames) * Math.log(2)));
+    }
+
+    private static long hash1(String name) {
+        return name.hashCode();
+    }
+
+    // FNV-1a (64bit), 홀수로 만들어 h1 + i * h2 가 같은 자리를 반복하지 않게 한다.
+    private static long hash2(String name) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : name.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+        return hash | 1;
+    }
+}
@@ -1,6 +1,7 @@
 package jpabook.jpashop.service;
 
 import jpabook.jpashop.domain.Member;
+import jpabook.jpashop.repository.member.dto.MemberSummary;
 
 import java.util.List;
 
@@ -10,5 +11,7 @@ public interface MemberService {
 
     List<Member> findMembers();
 
+    List<MemberSummary> findMemberSummaries();
+
     void update(Long id, String name);
 }
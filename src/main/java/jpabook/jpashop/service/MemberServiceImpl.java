@@ -2,23 +2,45 @@ package jpabook.jpashop.service;
 
 import jpabook.jpashop.domain.Member;
 import jpabook.jpashop.repository.member.MemberRepository;
+import jpabook.jpashop.repository.member.dto.MemberSummary;
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
 
 @Service
 @Transactional
 @RequiredArgsConstructor
 public class MemberServiceImpl implements MemberService {
 
+    private static final String DUPLICATE_NAME_MESSAGE = "중복된 이름이 존재합니다.";
+    private static final String USERNAME_UNIQUE_INDEX = "uk_member_username";
+
     private final MemberRepository memberRepository;
+    private final MemberNameFilter memberNameFilter;
 
+    /**
+     * 중복 검사는 uk_member_username 이 최종적으로 보장한다. (동시 가입 시 existsByName 만으로는 막을 수 없다.)
+     * IDENTITY 전략이라 save 시점에 insert 되므로 제약 위반도 여기서 같은 비즈니스 예외로 바꾼다.
+     */
     @Override
     public Long signUp(Member member) {
-        validateDuplicateMember(member);
-        return memberRepository.save(member).getId();
+        validateDuplicateMember(member.getName());
+        try {
+            Long id = memberRepository.save(member).getId();
+            memberNameFilter.add(member.getName());
+            return id;
+        } catch (DataIntegrityViolationException e) {
+            if (isDuplicateName(e)) {
+                throw new IllegalArgumentException(DUPLICATE_NAME_MESSAGE, e);
+            }
+            throw e;
+        }
     }
 
     @Transactional(readOnly = true)
@@ -27,16 +49,44 @@ public class MemberServiceImpl implements MemberService {
         return memberRepository.findAll();
     }
 
+    @Transactional(readOnly = true)
+    @Override
+    public List<MemberSummary> findMemberSummaries() {
+        return memberRepository.findMemberSummaries();
+    }
+
+    /**
+     * 이름을 바꿀 때도 동시 가입 / 변경과 겹칠 수 있으므로 바로 flush 해서 제약 위반을 signUp 과 같은 예외로 바꾼다.
+     */
     @Override
     public void update(Long id, String name) {
         Member member = memberRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("not found: " + id));
+        if (Objects.equals(name, member.getName())) {
+            return;
+        }
+        validateDuplicateMember(name);
         member.updateName(name);
+        try {
+            memberRepository.flush();
+        } catch (DataIntegrityViolationException e) {
+            if (isDuplicateName(e)) {
+                throw new IllegalArgumentException(DUPLICATE_NAME_MESSAGE, e);
+            }
+            throw e;
+        }
+        memberNameFilter.add(name);
     }
 
-    private void validateDuplicateMember(Member member) {
-        if (memberRepository.existsByName(member.getName())) {
-            throw new IllegalArgumentException("중복된 이름이 존재합니다.");
+    // 필터가 "확실히 없음"이라고 답하면 조회를 생략한다.
+    private void validateDuplicateMember(String name) {
+        if (memberNameFilter.mightExist(name) && memberRepository.existsByName(name)) {
+            throw new IllegalArgumentException(DUPLICATE_NAME_MESSAGE);
         }
     }
+
+    static boolean isDuplicateName(DataIntegrityViolationException e) {
+        String message = NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+        return message != null && message.toLowerCase(Locale.ROOT).contains(USERNAME_UNIQUE_INDEX);
+    }
 }
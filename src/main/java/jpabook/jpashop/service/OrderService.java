@@ -2,6 +2,9 @@ package jpabook.jpashop.service;
 
 import jpabook.jpashop.domain.Order;
 import jpabook.jpashop.domain.OrderSearch;
+import jpabook.jpashop.repository.order.OrderFetchPlan;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 
 import java.util.List;
 
@@ -12,4 +15,6 @@ public interface OrderService {
     void cancelOrder(Long orderId);
 
     List<Order> searchOrders(OrderSearch orderSearch);
+
+    Page<Order> findOrders(OrderFetchPlan plan, Pageable pageable);
 }
@@ -1,7 +1,6 @@
 package jpabook.jpashop.service;
 
 import jakarta.persistence.EntityManager;
-import jakarta.persistence.TypedQuery;
 import jpabook.jpashop.domain.Delivery;
 import jpabook.jpashop.domain.DeliveryStatus;
 import jpabook.jpashop.domain.OrderItem;
@@ -10,12 +9,15 @@ import jpabook.jpashop.repository.ItemRepository;
 import jpabook.jpashop.domain.Member;
 import jpabook.jpashop.repository.member.MemberRepository;
 import jpabook.jpashop.domain.Order;
+import jpabook.jpashop.repository.order.OrderFetchPlan;
 import jpabook.jpashop.repository.order.OrderRepository;
 import jpabook.jpashop.domain.OrderSearch;
+import jpabook.jpashop.service.outbox.OrderOutboxRecorder;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.util.StringUtils;
 
 import java.util.List;
 
@@ -28,6 +30,8 @@ public class OrderServiceImpl implements OrderService {
     private final OrderRepository orderRepository;
     private final MemberRepository memberRepository;
     private final ItemRepository itemRepository;
+    private final OrderSummaryService orderSummaryService;
+    private final OrderOutboxRecorder orderOutboxRecorder;
 
     @Override
     public Long order(Long memberId, Long itemId, int count) {
@@ -50,7 +54,10 @@ public class OrderServiceImpl implements OrderService {
         // 주문 생성
         Order order = Order.createOrder(member, delivery, orderItem);
 
-        return orderRepository.save(order).getId();
+        orderRepository.save(order);
+        orderSummaryService.onOrderPlaced(order); // 읽기 모델 갱신 (같은 트랜잭션)
+        orderOutboxRecorder.orderPlaced(order); // 이벤트는 커밋 후 OutboxPoller 가 발행 (매출 롤업 등)
+        return order.getId();
     }
 
     @Override
@@ -60,6 +67,8 @@ public class OrderServiceImpl implements OrderService {
                .orElseThrow(() -> new IllegalArgumentException("not found: " + orderId));
         // 주문 취소
         order.cancel();
+        orderSummaryService.onOrderCanceled(order);
+        orderOutboxRecorder.orderCanceled(order);
 
         // 엔티티 조회 + 주문 취소
         // orderRepository.findById(orderId)
@@ -75,39 +84,15 @@ public class OrderServiceImpl implements OrderService {
         //                .setParameter("name", orderSearch.memberName())
         //                .setMaxResults(1000) // 최대 1000건
         //                .getResultList();
-        return findAllByString(orderSearch);
+        return orderRepository.search(orderSearch, 1000); // 최대 1000건
     }
 
-    public List<Order> findAllByString(OrderSearch orderSearch) {
-        String jpql = "select o From Order o join o.member m";
-        boolean isFirstCondition = true;
-
-        // 주문 상태 검색
-        if (orderSearch.getOrderStatus() != null) {
-            jpql += " where";
-            isFirstCondition = false;
-            jpql += " o.status = :status";
-        }
-
-        // 회원 이름 검색
-        if (StringUtils.hasText(orderSearch.getMemberName())) {
-            if (isFirstCondition) {
-                jpql += " where";
-                isFirstCondition = false;
-            } else {
-                jpql += " and";
-            }
-            jpql += " m.name like :name";
-        }
-
-        TypedQuery<Order> query = entityManager.createQuery(jpql, Order.class)
-                .setMaxResults(1000); // 최대 1000건
-        if (orderSearch.getOrderStatus() != null) {
-            query = query.setParameter("status", orderSearch.getOrderStatus());
-        }
-        if (StringUtils.hasText(orderSearch.getMemberName())) {
-            query = query.setParameter("name", orderSearch.getMemberName());
-        }
-        return query.getResultList();
+    /**
+     * fetch plan 에 포함된 연관관계는 트랜잭션 안에서 모두 초기화되어 반환된다.
+     */
+    @Transactional(readOnly = true)
+    @Override
+    public Page<Order> findOrders(OrderFetchPlan plan, Pageable pageable) {
+        return orderRepository.findPage(plan, pageable);
     }
 }
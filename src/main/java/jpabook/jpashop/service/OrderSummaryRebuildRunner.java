@@ -0,0 +1,35 @@
+package jpabook.jpashop.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * order_summary backfill 명령
+ * ex) java -jar jpashop.jar --rebuild-order-summary --rebuild-chunk-size=5000
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderSummaryRebuildRunner implements ApplicationRunner {
+
+    private static final int DEFAULT_CHUNK_SIZE = 1000;
+
+    private final OrderSummaryService orderSummaryService;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!args.containsOption("rebuild-order-summary")) {
+            return;
+        }
+        List<String> chunkSize = args.getOptionValues("rebuild-chunk-size");
+        int size = chunkSize == null || chunkSize.isEmpty() ? DEFAULT_CHUNK_SIZE : Integer.parseInt(chunkSize.get(0));
+
+        long rows = orderSummaryService.rebuild(size);
+        log.info("order_summary rebuild completed: {} rows", rows);
+    }
+}
@@ -0,0 +1,95 @@
+package jpabook.jpashop.service;
+
+import jpabook.jpashop.domain.Order;
+import jpabook.jpashop.domain.OrderSummary;
+import jpabook.jpashop.repository.order.summary.OrderSummaryRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * order_summary 읽기 모델 관리
+ * app.order.summary.enabled=false 이면 갱신하지 않으며, 목록 API 는 기존 join 조회를 사용한다.
+ */
+@Slf4j
+@Service
+@Transactional
+public class OrderSummaryService {
+
+    private final OrderSummaryRepository orderSummaryRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+
+    public OrderSummaryService(OrderSummaryRepository orderSummaryRepository,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${app.order.summary.enabled:true}") boolean enabled) {
+        this.orderSummaryRepository = orderSummaryRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 주문 트랜잭션 안에서 호출된다.
+     */
+    public void onOrderPlaced(Order order) {
+        if (enabled) {
+            orderSummaryRepository.save(OrderSummary.from(order));
+        }
+    }
+
+    public void onOrderCanceled(Order order) {
+        if (enabled) {
+            orderSummaryRepository.findById(order.getId())
+                    .ifPresentOrElse(
+                            summary -> summary.changeStatus(order.getStatus()),
+                            () -> orderSummaryRepository.save(OrderSummary.from(order)));
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public Page<OrderSummary> findLatest(Pageable pageable) {
+        return orderSummaryRepository.findLatest(pageable);
+    }
+
+    @Transactional(readOnly = true)
+    public List<OrderSummary> findAll() {
+        return orderSummaryRepository.findAllOrderById();
+    }
+
+    /**
+     * 기존 주문으로 읽기 모델을 다시 만든다. (backfill)
+     * order id 구간(chunkSize) 단위로 delete + insert select 후 커밋한다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public long rebuild(int chunkSize) {
+        Long maxOrderId = orderSummaryRepository.findMaxOrderId();
+        if (maxOrderId == null) {
+            return 0;
+        }
+
+        long inserted = 0;
+        for (long fromId = 0; fromId < maxOrderId; fromId += chunkSize) {
+            long from = fromId;
+            long to = Math.min(fromId + chunkSize, maxOrderId);
+            Integer count = transactionTemplate.execute(status -> {
+                orderSummaryRepository.deleteRange(from, to);
+                return orderSummaryRepository.insertRange(from, to);
+            });
+            inserted += count == null ? 0 : count;
+            log.info("order_summary rebuild: order_id ({}, {}] -> {} rows", from, to, count);
+        }
+        return inserted;
+    }
+}
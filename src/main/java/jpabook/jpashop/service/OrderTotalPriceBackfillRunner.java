@@ -0,0 +1,64 @@
+package jpabook.jpashop.service;
+
+import jpabook.jpashop.repository.order.OrderRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * orders.total_price 백필 명령
+ * 컬럼 추가(alter table orders add column total_price integer default 0 not null) 후 기존 주문 금액을 채운다.
+ * ex) java -jar jpashop.jar --backfill-order-total-price --backfill-chunk-size=5000
+ */
+@Slf4j
+@Component
+public class OrderTotalPriceBackfillRunner implements ApplicationRunner {
+
+    private static final int DEFAULT_CHUNK_SIZE = 1000;
+
+    private final OrderRepository orderRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public OrderTotalPriceBackfillRunner(OrderRepository orderRepository,
+                                         PlatformTransactionManager transactionManager) {
+        this.orderRepository = orderRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!args.containsOption("backfill-order-total-price")) {
+            return;
+        }
+        List<String> chunkSize = args.getOptionValues("backfill-chunk-size");
+        int size = chunkSize == null || chunkSize.isEmpty() ? DEFAULT_CHUNK_SIZE : Integer.parseInt(chunkSize.get(0));
+
+        long rows = backfill(size);
+        log.info("orders.total_price backfill completed: {} rows", rows);
+    }
+
+    /**
+     * order id 구간(chunkSize) 단위로 update 후 커밋한다. (이미 채워진 주문을 다시 돌려도 결과는 같다.)
+     */
+    public long backfill(int chunkSize) {
+        Long maxOrderId = orderRepository.findMaxId();
+        if (maxOrderId == null) {
+            return 0;
+        }
+
+        long updated = 0;
+        for (long fromId = 0; fromId < maxOrderId; fromId += chunkSize) {
+            long from = fromId;
+            long to = Math.min(fromId + chunkSize, maxOrderId);
+            Integer count = transactionTemplate.execute(status -> orderRepository.backfillTotalPrice(from, to));
+            updated += count == null ? 0 : count;
+            log.info("orders.total_price backfill: order_id ({}, {}] -> {} rows", from, to, count);
+        }
+        return updated;
+    }
+}
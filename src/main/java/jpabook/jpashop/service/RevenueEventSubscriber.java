@@ -0,0 +1,21 @@
+package jpabook.jpashop.service;
+
+import jpabook.jpashop.service.outbox.OrderEvent;
+import jpabook.jpashop.service.outbox.OrderEventSubscriber;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 주문 이벤트로 매출 롤업을 갱신한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RevenueEventSubscriber implements OrderEventSubscriber {
+
+    private final RevenueService revenueService;
+
+    @Override
+    public void onEvent(OrderEvent event) {
+        revenueService.onOrderEvent(event);
+    }
+}
@@ -0,0 +1,28 @@
+package jpabook.jpashop.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * 매출 롤업 backfill 명령
+ * ex) java -jar jpashop.jar --rebuild-revenue
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RevenueRebuildRunner implements ApplicationRunner {
+
+    private final RevenueService revenueService;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!args.containsOption("rebuild-revenue")) {
+            return;
+        }
+        long days = revenueService.rebuild();
+        log.info("revenue rebuild completed: {} days", days);
+    }
+}
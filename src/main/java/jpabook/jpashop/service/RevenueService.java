@@ -0,0 +1,108 @@
+package jpabook.jpashop.service;
+
+import jpabook.jpashop.domain.Order;
+import jpabook.jpashop.domain.OrderItem;
+import jpabook.jpashop.repository.order.OrderRepository;
+import jpabook.jpashop.repository.revenue.RevenueReportRepository;
+import jpabook.jpashop.repository.revenue.RevenueRollupRepository;
+import jpabook.jpashop.repository.revenue.dto.DailyRevenueDto;
+import jpabook.jpashop.repository.revenue.dto.ItemRevenueDto;
+import jpabook.jpashop.repository.revenue.dto.MemberRevenueDto;
+import jpabook.jpashop.repository.revenue.dto.MonthlyRevenueDto;
+import jpabook.jpashop.service.outbox.OrderEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * 매출 롤업 갱신 / 조회
+ * 주문/취소 outbox 이벤트를 받아(RevenueEventSubscriber) 주문 트랜잭션 밖에서 주문일(order_date) 기준으로 더하고 뺀다.
+ * 주문 트랜잭션은 롤업 행 락을 잡지 않으며, 롤업은 폴링 주기만큼 늦게 반영된다.
+ */
+@Slf4j
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class RevenueService {
+
+    private static final int MAX_LIMIT = 100;
+
+    private final RevenueRollupRepository revenueRollupRepository;
+    private final RevenueReportRepository revenueReportRepository;
+    private final OrderRepository orderRepository;
+
+    /**
+     * 주문 이벤트 하나를 롤업에 반영한다.
+     * 다시 전달된 이벤트는 revenue_applied_event 로 걸러 한 번만 반영하고, 반영 기록과 증감은 같은 트랜잭션에서 커밋된다.
+     */
+    public void onOrderEvent(OrderEvent event) {
+        if (!revenueRollupRepository.markApplied(event.getEventId())) {
+            return;
+        }
+        Order order = orderRepository.findById(event.getOrderId()).orElse(null);
+        if (order == null) {
+            log.warn("revenue: order {} of event {} not found, skipped", event.getOrderId(), event.getEventId());
+            return;
+        }
+        switch (event.getType()) {
+            case ORDER_PLACED -> apply(order, 1);
+            case ORDER_CANCELED -> apply(order, -1);
+        }
+    }
+
+    /**
+     * 주문/주문상품으로 롤업을 다시 만든다. (backfill, 누락/불일치 복구)
+     * 롤업은 일 x 키 단위로 작으므로 한 트랜잭션에서 delete + insert select 하고,
+     * 그때까지 저장된 outbox 이벤트는 결과에 이미 포함됐으므로 반영 처리로 기록한다.
+     * 집계와 기록이 같은 스냅샷을 보도록 SERIALIZABLE 로 실행한다.
+     */
+    @Transactional(isolation = Isolation.SERIALIZABLE)
+    public long rebuild() {
+        revenueRollupRepository.deleteAll();
+        int days = revenueRollupRepository.rebuildDaily();
+        int items = revenueRollupRepository.rebuildItem();
+        int members = revenueRollupRepository.rebuildMember();
+        int events = revenueRollupRepository.markAllApplied();
+        log.info("revenue rebuild: daily {} rows, item {} rows, member {} rows, {} events marked applied",
+                days, items, members, events);
+        return days;
+    }
+
+    private void apply(Order order, int sign) {
+        LocalDate salesDate = order.getOrderDate().toLocalDate();
+        long quantity = 0;
+        for (OrderItem orderItem : order.getOrderItems()) {
+            quantity += orderItem.getCount();
+            revenueRollupRepository.addItem(salesDate, orderItem.getItem().getId(),
+                    (long) sign * orderItem.getCount(), (long) sign * orderItem.getTotalPrice());
+        }
+        revenueRollupRepository.addDaily(salesDate, sign, sign * quantity, (long) sign * order.getTotalPrice());
+        revenueRollupRepository.addMember(salesDate, order.getMember().getId(), sign, (long) sign * order.getTotalPrice());
+    }
+
+    @Transactional(readOnly = true)
+    public List<DailyRevenueDto> findDaily(LocalDate from, LocalDate to) {
+        return revenueReportRepository.findDaily(from, to);
+    }
+
+    @Transactional(readOnly = true)
+    public List<MonthlyRevenueDto> findMonthly(YearMonth from, YearMonth to) {
+        return revenueReportRepository.findMonthly(from.atDay(1), to.atEndOfMonth());
+    }
+
+    @Transactional(readOnly = true)
+    public List<ItemRevenueDto> findTopItems(LocalDate from, LocalDate to, int limit) {
+        return revenueReportRepository.findTopItems(from, to, Math.min(limit, MAX_LIMIT));
+    }
+
+    @Transactional(readOnly = true)
+    public List<MemberRevenueDto> findTopMembers(LocalDate from, LocalDate to, int limit) {
+        return revenueReportRepository.findTopMembers(from, to, Math.min(limit, MAX_LIMIT));
+    }
+}
@@ -0,0 +1,65 @@
+package jpabook.jpashop.service.dto;
+
+import jpabook.jpashop.repository.category.dto.CategoryFlatDto;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 메뉴 렌더링용 불변 카테고리 트리 스냅샷
+ * 한 번 만들어지면 변경되지 않으므로 여러 요청 스레드가 동기화 없이 공유한다.
+ */
+@Getter
+public class CategoryTree {
+
+    private final List<Node> roots;
+
+    private CategoryTree(List<Node> roots) {
+        this.roots = roots;
+    }
+
+    /**
+     * path 순으로 정렬된 목록이면 부모가 항상 자식보다 먼저 나온다.
+     */
+    public static CategoryTree of(List<CategoryFlatDto> flats) {
+        Map<Long, List<CategoryFlatDto>> childrenByParent = new HashMap<>();
+        List<CategoryFlatDto> rootFlats = new ArrayList<>();
+        for (CategoryFlatDto flat : flats) {
+            if (flat.getParentId() == null) {
+                rootFlats.add(flat);
+            } else {
+                childrenByParent.computeIfAbsent(flat.getParentId(), k -> new ArrayList<>()).add(flat);
+            }
+        }
+        return new CategoryTree(toNodes(rootFlats, childrenByParent));
+    }
+
+    private static List<Node> toNodes(List<CategoryFlatDto> flats, Map<Long, List<CategoryFlatDto>> childrenByParent) {
+        List<Node> nodes = new ArrayList<>(flats.size());
+        for (CategoryFlatDto flat : flats) {
+            List<Node> children = toNodes(childrenByParent.getOrDefault(flat.getId(), List.of()), childrenByParent);
+            nodes.add(new Node(flat.getId(), flat.getName(), flat.getPath(), flat.getDepth(), children));
+        }
+        return List.copyOf(nodes);
+    }
+
+    @Getter
+    public static class Node {
+        private final Long id;
+        private final String name;
+        private final String path;
+        private final int depth;
+        private final List<Node> children;
+
+        private Node(Long id, String name, String path, int depth, List<Node> children) {
+            this.id = id;
+            this.name = name;
+            this.path = path;
+            this.depth = depth;
+            this.children = children;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package jpabook.jpashop.service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+public class ItemImportResult {
+
+    private long total;
+    private long updated;
+    private final List<Failure> failures = new ArrayList<>();
+
+    public void success() {
+        total++;
+        updated++;
+    }
+
+    public void fail(ItemPriceStock row, String reason) {
+        total++;
+        failures.add(new Failure(row.getLine(), row.getItemId(), reason));
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Failure {
+        private long line;
+        private Long itemId;
+        private String reason;
+    }
+}
@@ -0,0 +1,37 @@
+package jpabook.jpashop.service.dto;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 가격/재고 일괄 반영용 한 행 (파싱 실패 시 error 에 사유를 담는다.)
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class ItemPriceStock {
+
+    private final long line;
+    private final Long itemId;
+    private final int price;
+    private final int stockQuantity;
+    private final String error;
+
+    public static ItemPriceStock of(long line, Long itemId, int price, int stockQuantity) {
+        if (itemId == null) {
+            return failure(line, null, "itemId is required");
+        }
+        if (price < 0 || stockQuantity < 0) {
+            return failure(line, itemId, "price and stockQuantity must not be negative");
+        }
+        return new ItemPriceStock(line, itemId, price, stockQuantity, null);
+    }
+
+    public static ItemPriceStock failure(long line, Long itemId, String error) {
+        return new ItemPriceStock(line, itemId, 0, 0, error);
+    }
+
+    public boolean isValid() {
+        return error == null;
+    }
+}
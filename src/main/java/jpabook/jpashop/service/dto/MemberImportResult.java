@@ -0,0 +1,48 @@
+package jpabook.jpashop.service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+@Getter
+public class MemberImportResult {
+
+    private long total;
+    private long created;
+    private final List<Row> rows = new ArrayList<>();
+
+    public void created(MemberImportRow row) {
+        total++;
+        created++;
+        rows.add(new Row(row.getLine(), row.getName(), Status.CREATED, null));
+    }
+
+    public void fail(MemberImportRow row, Status status, String reason) {
+        total++;
+        rows.add(new Row(row.getLine(), row.getName(), status, reason));
+    }
+
+    /**
+     * batch 단위로 처리되므로 마지막에 입력 순서(line)로 정렬한다.
+     */
+    public MemberImportResult sortByLine() {
+        rows.sort(Comparator.comparingLong(Row::getLine));
+        return this;
+    }
+
+    public enum Status {
+        CREATED, DUPLICATE, INVALID, FAILED
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Row {
+        private long line;
+        private String name;
+        private Status status;
+        private String reason;
+    }
+}
@@ -0,0 +1,40 @@
+package jpabook.jpashop.service.dto;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.util.StringUtils;
+
+/**
+ * 회원 일괄 등록용 한 행 (파싱 실패 시 error 에 사유를 담는다.)
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class MemberImportRow {
+
+    private final long line;
+    private final String name;
+    private final int age;
+    private final String city;
+    private final String street;
+    private final String zipcode;
+    private final String error;
+
+    public static MemberImportRow of(long line, String name, int age, String city, String street, String zipcode) {
+        if (!StringUtils.hasText(name)) {
+            return failure(line, name, "name is required");
+        }
+        if (age < 0) {
+            return failure(line, name, "age must not be negative");
+        }
+        return new MemberImportRow(line, name.trim(), age, city, street, zipcode, null);
+    }
+
+    public static MemberImportRow failure(long line, String name, String error) {
+        return new MemberImportRow(line, name, 0, null, null, null, error);
+    }
+
+    public boolean isValid() {
+        return error == null;
+    }
+}
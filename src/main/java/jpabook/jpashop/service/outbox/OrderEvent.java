@@ -0,0 +1,24 @@
+package jpabook.jpashop.service.outbox;
+
+import jpabook.jpashop.domain.OrderEventType;
+import jpabook.jpashop.domain.OutboxEvent;
+import lombok.Getter;
+
+/**
+ * 구독자에게 전달되는 주문 이벤트 (at-least-once 이므로 eventId 로 중복을 걸러야 한다.)
+ */
+@Getter
+public class OrderEvent {
+
+    private final Long eventId;
+    private final Long orderId;
+    private final OrderEventType type;
+    private final String payload;
+
+    public OrderEvent(OutboxEvent outboxEvent) {
+        this.eventId = outboxEvent.getId();
+        this.orderId = outboxEvent.getAggregateId();
+        this.type = outboxEvent.getEventType();
+        this.payload = outboxEvent.getPayload();
+    }
+}
@@ -0,0 +1,10 @@
+package jpabook.jpashop.service.outbox;
+
+/**
+ * 주문 이벤트 구독자 (검색 색인, 요약, 캐시 등 파생 데이터 갱신)
+ * 같은 주문의 이벤트는 저장 순서대로 전달되며, 예외를 던지면 다음 폴링 때 다시 전달된다.
+ */
+public interface OrderEventSubscriber {
+
+    void onEvent(OrderEvent event);
+}
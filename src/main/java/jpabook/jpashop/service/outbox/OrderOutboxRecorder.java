@@ -0,0 +1,54 @@
+package jpabook.jpashop.service.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jpabook.jpashop.domain.Order;
+import jpabook.jpashop.domain.OrderEventType;
+import jpabook.jpashop.domain.OutboxEvent;
+import jpabook.jpashop.repository.outbox.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 주문 트랜잭션 안에서 outbox 이벤트를 저장한다.
+ * 주문이 롤백되면 이벤트도 함께 롤백되므로 "주문은 됐는데 이벤트는 없는" 상태가 생기지 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(propagation = Propagation.MANDATORY)
+public class OrderOutboxRecorder {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    public void orderPlaced(Order order) {
+        record(order, OrderEventType.ORDER_PLACED);
+    }
+
+    public void orderCanceled(Order order) {
+        record(order, OrderEventType.ORDER_CANCELED);
+    }
+
+    private void record(Order order, OrderEventType type) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("orderId", order.getId());
+        payload.put("memberId", order.getMember().getId());
+        payload.put("status", order.getStatus());
+        payload.put("totalPrice", order.getTotalPrice());
+        payload.put("orderDate", order.getOrderDate());
+        outboxEventRepository.save(new OutboxEvent(order.getId(), type, toJson(payload)));
+    }
+
+    private String toJson(Map<String, Object> payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("outbox payload serialization failed", e);
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package jpabook.jpashop.service.outbox;
+
+import jakarta.annotation.PreDestroy;
+import jpabook.jpashop.domain.OutboxEvent;
+import jpabook.jpashop.repository.outbox.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * outbox 에 쌓인 주문 이벤트를 구독자에게 발행한다.
+ * - at-least-once: 모든 구독자가 성공한 뒤에 published_at 을 채운다. (발행 후 마킹 전에 죽으면 다시 발행된다.)
+ * - 순서 보장: 같은 주문(aggregate_id)의 이벤트는 같은 파티션에서 저장 순서대로 처리되며,
+ *   앞 이벤트가 실패하면 같은 주문의 뒤 이벤트는 이번 배치에서 건너뛴다.
+ * - 재시도: 실패한 이벤트는 retry-backoff 부터 두 배씩(max-retry-backoff 까지) 미뤄지고,
+ *   max-attempts 번 실패하면 격리(failed_at)되어 같은 주문의 뒤 이벤트만 함께 멈춘다. (다른 주문은 계속 발행된다.)
+ * - 병렬도: 주문 id 를 parallelism 개의 파티션으로 나누어 동시에 처리한다.
+ * 폴러는 인스턴스 하나에서만 동작한다고 가정한다. (여러 인스턴스라면 select ... for update skip locked 로 배치를 나눠야 한다.)
+ */
+@Slf4j
+@Component
+public class OutboxPoller {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final List<OrderEventSubscriber> subscribers;
+    private final int batchSize;
+    private final int parallelism;
+    private final int maxAttempts;
+    private final long retryBackoffMillis;
+    private final long maxRetryBackoffMillis;
+    private final ExecutorService executor;
+
+    public OutboxPoller(OutboxEventRepository outboxEventRepository,
+                        List<OrderEventSubscriber> subscribers,
+                        @Value("${app.order.outbox.batch-size:100}") int batchSize,
+                        @Value("${app.order.outbox.parallelism:4}") int parallelism,
+                        @Value("${app.order.outbox.max-attempts:10}") int maxAttempts,
+                        @Value("${app.order.outbox.retry-backoff:1000}") long retryBackoffMillis,
+                        @Value("${app.order.outbox.max-retry-backoff:300000}") long maxRetryBackoffMillis) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.subscribers = subscribers;
+        this.batchSize = batchSize;
+        this.parallelism = Math.max(1, parallelism);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.retryBackoffMillis = Math.max(0, retryBackoffMillis);
+        this.maxRetryBackoffMillis = Math.max(this.retryBackoffMillis, maxRetryBackoffMillis);
+        this.executor = Executors.newFixedThreadPool(this.parallelism);
+    }
+
+    /**
+     * 미발행 이벤트 한 배치를 발행하고 발행된 이벤트 수를 반환한다.
+     */
+    public synchronized int poll() {
+        List<OutboxEvent> events = outboxEventRepository.findUnpublished(LocalDateTime.now(), PageRequest.of(0, batchSize));
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        List<Future<Dispatched>> futures = new ArrayList<>();
+        for (List<OutboxEvent> partition : partition(events)) {
+            futures.add(executor.submit(() -> dispatch(partition)));
+        }
+
+        List<Long> publishedIds = new ArrayList<>();
+        List<OutboxEvent> failed = new ArrayList<>();
+        for (Future<Dispatched> future : futures) {
+            Dispatched dispatched = await(future);
+            publishedIds.addAll(dispatched.publishedIds);
+            failed.addAll(dispatched.failed);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        if (!publishedIds.isEmpty()) {
+            outboxEventRepository.markPublished(publishedIds, now);
+        }
+        for (OutboxEvent event : failed) {
+            recordFailure(event, now);
+        }
+        return publishedIds.size();
+    }
+
+    /**
+     * 실패한 이벤트는 다음 시도 시각을 미루고, 최대 시도 횟수에 닿으면 격리한다.
+     * (같은 주문의 뒤 이벤트는 시도하지 않았으므로 시도 횟수를 올리지 않는다.)
+     */
+    private void recordFailure(OutboxEvent event, LocalDateTime now) {
+        int attempts = event.getAttempts() + 1;
+        if (attempts >= maxAttempts) {
+            log.error("outbox event {} (order {}) failed {} times, parked", event.getId(), event.getAggregateId(), attempts);
+            outboxEventRepository.park(event.getId(), attempts, now);
+            return;
+        }
+        outboxEventRepository.retryLater(event.getId(), attempts, now.plus(retryDelay(attempts)));
+    }
+
+    Duration retryDelay(int attempts) {
+        long delay = retryBackoffMillis;
+        for (int i = 1; i < attempts && delay < maxRetryBackoffMillis; i++) {
+            delay *= 2;
+        }
+        return Duration.ofMillis(Math.min(delay, maxRetryBackoffMillis));
+    }
+
+    /**
+     * 이벤트 id 순서를 유지한 채 주문 id 로 파티션을 나눈다.
+     */
+    private Collection<List<OutboxEvent>> partition(List<OutboxEvent> events) {
+        Map<Integer, List<OutboxEvent>> partitions = new TreeMap<>();
+        for (OutboxEvent event : events) {
+            int key = Math.floorMod(event.getAggregateId().hashCode(), parallelism);
+            partitions.computeIfAbsent(key, k -> new ArrayList<>()).add(event);
+        }
+        return partitions.values();
+    }
+
+    private Dispatched dispatch(List<OutboxEvent> events) {
+        List<Long> publishedIds = new ArrayList<>();
+        List<OutboxEvent> failed = new ArrayList<>();
+        Set<Long> failedOrderIds = new HashSet<>();
+        for (OutboxEvent event : events) {
+            if (failedOrderIds.contains(event.getAggregateId())) {
+                continue;
+            }
+            try {
+                OrderEvent orderEvent = new OrderEvent(event);
+                for (OrderEventSubscriber subscriber : subscribers) {
+                    subscriber.onEvent(orderEvent);
+                }
+                publishedIds.add(event.getId());
+            } catch (RuntimeException e) {
+                log.warn("outbox event {} (order {}) failed, retry later", event.getId(), event.getAggregateId(), e);
+                failedOrderIds.add(event.getAggregateId());
+                failed.add(event);
+            }
+        }
+        return new Dispatched(publishedIds, failed);
+    }
+
+    private static Dispatched await(Future<Dispatched> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new Dispatched(List.of(), List.of());
+        } catch (ExecutionException e) {
+            log.warn("outbox partition failed", e.getCause());
+            return new Dispatched(List.of(), List.of());
+        }
+    }
+
+    /**
+     * 파티션 하나의 처리 결과 (발행된 이벤트 id, 실패한 이벤트)
+     */
+    @RequiredArgsConstructor
+    private static class Dispatched {
+        private final List<Long> publishedIds;
+        private final List<OutboxEvent> failed;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
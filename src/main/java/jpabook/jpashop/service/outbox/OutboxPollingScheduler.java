@@ -0,0 +1,32 @@
+package jpabook.jpashop.service.outbox;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * app.order.outbox.polling.enabled=false 이면 주기 발행을 끈다. (테스트는 OutboxPoller.poll() 을 직접 호출)
+ * spring.main.lazy-initialization=true 에서도 스케줄이 등록되도록 즉시 생성한다.
+ */
+@Slf4j
+@Configuration
+@Lazy(false)
+@EnableScheduling
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.order.outbox.polling", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxPollingScheduler {
+
+    private final OutboxPoller outboxPoller;
+
+    @Scheduled(fixedDelayString = "${app.order.outbox.polling.interval:1000}")
+    public void poll() {
+        // 발행된 이벤트가 있으면 밀린 배치를 이어서 처리하고, 없으면 다음 주기까지 쉰다.
+        while (outboxPoller.poll() > 0) {
+            log.debug("outbox batch published");
+        }
+    }
+}
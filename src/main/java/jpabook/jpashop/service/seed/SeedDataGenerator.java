@@ -0,0 +1,230 @@
+package jpabook.jpashop.service.seed;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.IntFunction;
+
+/**
+ * 부하 / 벤치마크용 합성 데이터 생성기
+ * - 팀, 회원, 상품(Book / Album / Movie), 카테고리 트리, 주문(상품 인기도는 Zipf 분포)을 만든다.
+ * - 엔티티를 거치지 않고 JDBC batch insert 후 batch 단위로 커밋한다.
+ * - id 는 테이블별 현재 max(id) 다음부터 직접 부여하고, insert 전에 IDENTITY 시작값을 그 구간 뒤로 옮긴다. (H2 문법)
+ * - 난수는 seed 하나로만 만들고 현재 시각을 쓰지 않으므로 빈 DB 에서는 항상 같은 데이터가 나온다.
+ * 주문은 재고를 차감하지 않고, outbox / 매출 롤업도 거치지 않는다. (order_summary, 매출 롤업은 호출하는 쪽에서 rebuild)
+ */
+@Slf4j
+@Component
+public class SeedDataGenerator {
+
+    private static final String[] DTYPES = {"Book", "Album", "Movie"};
+    private static final String[] CITIES = {"서울", "부산", "인천", "대구", "광주", "대전"};
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public SeedDataGenerator(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public SeedResult generate(SeedProperties properties) {
+        long start = System.nanoTime();
+        SplittableRandom random = new SplittableRandom(properties.getSeed());
+        Timestamp createdDate = Timestamp.valueOf(properties.getStartDate().atStartOfDay());
+        int batchSize = properties.getBatchSize();
+
+        // 앱이 요청을 받는 중에도 돌 수 있으므로 insert 전에 id 구간을 먼저 예약한다.
+        long teamBase = reserveIds("team", "team_id", properties.getTeams());
+        long memberBase = reserveIds("member", "member_id", properties.getMembers());
+        long itemBase = reserveIds("item", "item_id", properties.getItems());
+        long categoryBase = reserveIds("category", "category_id", categoryCount(properties));
+        long deliveryBase = reserveIds("delivery", "delivery_id", properties.getOrders());
+        long orderBase = reserveIds("orders", "order_id", properties.getOrders());
+        long orderItemBase = reserveIds("order_item", "order_item_id",
+                (long) properties.getOrders() * Math.max(1, properties.getMaxItemsPerOrder()));
+
+        // 팀
+        insertChunked("insert into team (team_id, name, created_date, last_modified_date) values (?, ?, ?, ?)", properties.getTeams(), batchSize, i -> {
+            long id = teamBase + i + 1;
+            return new Object[]{id, "team" + id, createdDate, createdDate};
+        });
+
+        // 회원
+        insertChunked("insert into member (member_id, username, age, city, street, zipcode, team_id," +
+                " created_date, last_modified_date, created_by, last_modified_by)" +
+                " values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", properties.getMembers(), batchSize, i -> {
+            long id = memberBase + i + 1;
+            Long teamId = properties.getTeams() == 0 ? null : teamBase + 1 + random.nextInt(properties.getTeams());
+            return new Object[]{id, "member" + id, 10 + random.nextInt(60),
+                    CITIES[random.nextInt(CITIES.length)], "street" + random.nextInt(1000), String.format("%05d", random.nextInt(100_000)),
+                    teamId, createdDate, createdDate, "seed", "seed"};
+        });
+
+        // 상품 (가격은 나중에 주문 금액 계산에 다시 쓴다.)
+        int[] prices = new int[properties.getItems()];
+        insertChunked("insert into item (item_id, dtype, name, price, stock_quantity," +
+                " author, isbn, artist, etc, director, actor, created_date, last_modified_date)" +
+                " values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", properties.getItems(), batchSize, i -> {
+            long id = itemBase + i + 1;
+            String dtype = DTYPES[i % DTYPES.length];
+            prices[i] = (1 + random.nextInt(100)) * 1000;
+            return new Object[]{id, dtype, dtype + "-" + id, prices[i], 100 + random.nextInt(900),
+                    dtype.equals("Book") ? "author" + random.nextInt(100) : null,
+                    dtype.equals("Book") ? "isbn-" + id : null,
+                    dtype.equals("Album") ? "artist" + random.nextInt(100) : null,
+                    null,
+                    dtype.equals("Movie") ? "director" + random.nextInt(100) : null,
+                    dtype.equals("Movie") ? "actor" + random.nextInt(100) : null,
+                    createdDate, createdDate};
+        });
+
+        // 카테고리 트리 + 리프 카테고리에 상품 연결
+        List<Long> leaves = insertCategoryTree(properties, categoryBase, createdDate);
+        if (!leaves.isEmpty()) {
+            insertChunked("insert into category_item (category_id, item_id) values (?, ?)", properties.getItems(), batchSize,
+                    i -> new Object[]{leaves.get(random.nextInt(leaves.size())), itemBase + i + 1});
+        }
+
+        // 주문 (상품 인기 순위를 id 와 무관하게 섞은 뒤 Zipf 분포로 고른다.)
+        long orderItems = 0;
+        if (properties.getMembers() > 0 && properties.getItems() > 0) {
+            orderItems = insertOrders(properties, random, prices, memberBase, itemBase, deliveryBase, orderBase, orderItemBase);
+        }
+
+        SeedResult result = new SeedResult(properties.getTeams(), properties.getMembers(), properties.getItems(),
+                categoryCount(properties), properties.getOrders(), orderItems, (System.nanoTime() - start) / 1_000_000);
+        log.info("seed data generated: {}", result);
+        return result;
+    }
+
+    private List<Long> insertCategoryTree(SeedProperties properties, long categoryBase, Timestamp createdDate) {
+        List<Object[]> rows = new ArrayList<>();
+        List<Long> leaves = new ArrayList<>();
+        List<Object[]> level = new ArrayList<>(); // {id, path}
+        long nextId = categoryBase;
+        for (int depth = 0; depth < properties.getCategoryDepth(); depth++) {
+            List<Object[]> nextLevel = new ArrayList<>();
+            int parents = depth == 0 ? 1 : level.size();
+            for (int p = 0; p < parents; p++) {
+                Long parentId = depth == 0 ? null : (Long) level.get(p)[0];
+                String parentPath = depth == 0 ? "/" : (String) level.get(p)[1];
+                for (int c = 0; c < properties.getCategoryBranching(); c++) {
+                    long id = ++nextId;
+                    String path = parentPath + id + "/";
+                    rows.add(new Object[]{id, "category" + id, path, depth, parentId, createdDate, createdDate});
+                    nextLevel.add(new Object[]{id, path});
+                    if (depth == properties.getCategoryDepth() - 1) {
+                        leaves.add(id);
+                    }
+                }
+            }
+            level = nextLevel;
+        }
+        insertChunked("insert into category (category_id, name, path, depth, parent_id, created_date, last_modified_date)" +
+                " values (?, ?, ?, ?, ?, ?, ?)", rows.size(), properties.getBatchSize(), rows::get);
+        return leaves;
+    }
+
+    private long insertOrders(SeedProperties properties, SplittableRandom random, int[] prices,
+                              long memberBase, long itemBase, long deliveryBase, long orderBase, long orderItemBase) {
+        int itemCount = properties.getItems();
+        int[] itemByRank = new int[itemCount];
+        for (int i = 0; i < itemCount; i++) {
+            itemByRank[i] = i;
+        }
+        for (int i = itemCount - 1; i > 0; i--) { // Fisher-Yates
+            int j = random.nextInt(i + 1);
+            int tmp = itemByRank[i];
+            itemByRank[i] = itemByRank[j];
+            itemByRank[j] = tmp;
+        }
+        ZipfSampler sampler = new ZipfSampler(itemCount, properties.getZipfExponent());
+        long seconds = properties.getDays() * 86_400L;
+        LocalDateTime startTime = properties.getStartDate().atStartOfDay();
+
+        long orderItemId = orderItemBase;
+        int batchSize = properties.getBatchSize();
+        for (int from = 0; from < properties.getOrders(); from += batchSize) {
+            int to = Math.min(from + batchSize, properties.getOrders());
+            List<Object[]> deliveries = new ArrayList<>(to - from);
+            List<Object[]> orders = new ArrayList<>(to - from);
+            List<Object[]> orderItems = new ArrayList<>();
+            for (int i = from; i < to; i++) {
+                long orderId = orderBase + i + 1;
+                long deliveryId = deliveryBase + i + 1;
+                long memberId = memberBase + 1 + random.nextInt(properties.getMembers());
+                Timestamp orderDate = Timestamp.valueOf(startTime.plusSeconds(random.nextLong(seconds)));
+                boolean canceled = random.nextInt(10) == 0;
+                String deliveryStatus = canceled || random.nextBoolean() ? "READY" : "COMP";
+
+                int lines = 1 + random.nextInt(Math.max(1, properties.getMaxItemsPerOrder()));
+                int totalPrice = 0;
+                for (int line = 0; line < lines; line++) {
+                    int item = itemByRank[sampler.sample(random)];
+                    int count = 1 + random.nextInt(3);
+                    totalPrice += prices[item] * count;
+                    orderItems.add(new Object[]{++orderItemId, itemBase + item + 1, orderId, prices[item], count, orderDate, orderDate});
+                }
+                deliveries.add(new Object[]{deliveryId, CITIES[random.nextInt(CITIES.length)], "street", "00000",
+                        deliveryStatus, orderDate, orderDate});
+                orders.add(new Object[]{orderId, memberId, deliveryId, orderDate, canceled ? "CANCEL" : "ORDER",
+                        totalPrice, orderDate, orderDate});
+            }
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.batchUpdate("insert into delivery (delivery_id, city, street, zipcode, delivery_status," +
+                        " created_date, last_modified_date) values (?, ?, ?, ?, ?, ?, ?)", deliveries);
+                jdbcTemplate.batchUpdate("insert into orders (order_id, member_id, delivery_id, order_date, order_status," +
+                        " total_price, created_date, last_modified_date) values (?, ?, ?, ?, ?, ?, ?, ?)", orders);
+                jdbcTemplate.batchUpdate("insert into order_item (order_item_id, item_id, order_id, order_price, count," +
+                        " created_date, last_modified_date) values (?, ?, ?, ?, ?, ?, ?)", orderItems);
+            });
+        }
+        return orderItemId - orderItemBase;
+    }
+
+    private void insertChunked(String sql, int count, int batchSize, IntFunction<Object[]> row) {
+        for (int from = 0; from < count; from += batchSize) {
+            int to = Math.min(from + batchSize, count);
+            List<Object[]> rows = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                rows.add(row.apply(i));
+            }
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(sql, rows));
+        }
+    }
+
+    /**
+     * 현재 max(id) 다음 count 개를 예약하고 시작 직전 id 를 반환한다.
+     * IDENTITY 시작값을 구간 뒤로 먼저 옮기므로 생성 중에 들어온 가입 / 주문은 구간 밖의 id 를 받는다.
+     * (주문 상품처럼 개수를 미리 모르면 최대치를 예약하고, 쓰지 않은 id 는 비워 둔다.)
+     */
+    private long reserveIds(String table, String idColumn, long count) {
+        Long max = jdbcTemplate.queryForObject("select max(" + idColumn + ") from " + table, Long.class);
+        long base = max == null ? 0 : max;
+        restartIdentity(table, idColumn, base + count);
+        return base;
+    }
+
+    private void restartIdentity(String table, String idColumn, long lastId) {
+        jdbcTemplate.execute("alter table " + table + " alter column " + idColumn + " restart with " + (lastId + 1));
+    }
+
+    private static int categoryCount(SeedProperties properties) {
+        int count = 0;
+        int level = 1;
+        for (int depth = 0; depth < properties.getCategoryDepth(); depth++) {
+            level *= properties.getCategoryBranching();
+            count += level;
+        }
+        return count;
+    }
+}
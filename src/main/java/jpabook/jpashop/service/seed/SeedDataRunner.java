@@ -0,0 +1,76 @@
+package jpabook.jpashop.service.seed;
+
+import jpabook.jpashop.service.CategoryItemCountCache;
+import jpabook.jpashop.service.MemberNameFilter;
+import jpabook.jpashop.service.OrderSummaryService;
+import jpabook.jpashop.service.RevenueService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 합성 데이터 생성 명령 (initDb 대체)
+ * - local 프로파일: application-local.yml 의 소량 데이터
+ * - seed 프로파일: application-seed.yml 의 벤치마크용 데이터
+ * - CLI: java -jar jpashop.jar --seed-data --app.seed.members=100000 --app.seed.orders=1000000 --app.seed.seed=7
+ * 기동을 막지 않도록 ApplicationReadyEvent 이후 별도 스레드에서 생성하고 (app.seed.async=false 면 동기),
+ * 진행 상태는 SeedHealthIndicator 로 readiness probe 에 반영한다.
+ * 생성기는 JDBC 로 직접 적재하므로 끝난 뒤 파생 데이터(order_summary, 매출 롤업, 카테고리 상품 수 캐시, 회원명 필터)를 다시 맞춘다.
+ * 회원명 필터는 적재 중에는 항상 "있을 수 있음"으로 답하므로 워밍업과 적재의 순서에 상관없이 중복 조회를 건너뛰지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@EnableConfigurationProperties(SeedProperties.class)
+public class SeedDataRunner {
+
+    private final SeedProperties seedProperties;
+    private final SeedDataGenerator seedDataGenerator;
+    private final OrderSummaryService orderSummaryService;
+    private final RevenueService revenueService;
+    private final CategoryItemCountCache categoryItemCountCache;
+    private final MemberNameFilter memberNameFilter;
+    private final ApplicationArguments args;
+
+    private volatile SeedStatus status = SeedStatus.NOT_REQUESTED;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        if (!seedProperties.isEnabled() && !args.containsOption("seed-data")) {
+            return;
+        }
+        status = SeedStatus.RUNNING;
+        memberNameFilter.beginBulkLoad();
+        if (seedProperties.isAsync()) {
+            new SimpleAsyncTaskExecutor("seed-data-").execute(this::seed);
+        } else {
+            seed();
+        }
+    }
+
+    public SeedStatus getStatus() {
+        return status;
+    }
+
+    private void seed() {
+        try {
+            seedDataGenerator.generate(seedProperties);
+            if (orderSummaryService.isEnabled()) {
+                orderSummaryService.rebuild(seedProperties.getBatchSize());
+            }
+            revenueService.rebuild();
+            categoryItemCountCache.reset();
+            status = SeedStatus.COMPLETED;
+        } catch (RuntimeException e) {
+            status = SeedStatus.FAILED;
+            log.error("seed data generation failed", e);
+        } finally {
+            memberNameFilter.endBulkLoad();
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package jpabook.jpashop.service.seed;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * 데이터 생성 중에는 OUT_OF_SERVICE, 실패하면 DOWN (readiness 그룹에 포함: /actuator/health/readiness)
+ * liveness 에는 넣지 않으므로 생성이 오래 걸려도 재시작되지는 않는다.
+ */
+@Component("seed")
+@RequiredArgsConstructor
+public class SeedHealthIndicator implements HealthIndicator {
+
+    private final SeedDataRunner seedDataRunner;
+
+    @Override
+    public Health health() {
+        SeedStatus status = seedDataRunner.getStatus();
+        Health.Builder builder = switch (status) {
+            case RUNNING -> Health.outOfService();
+            case FAILED -> Health.down();
+            default -> Health.up();
+        };
+        return builder.withDetail("status", status).build();
+    }
+}
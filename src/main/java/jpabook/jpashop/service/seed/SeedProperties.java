@@ -0,0 +1,42 @@
+package jpabook.jpashop.service.seed;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.LocalDate;
+
+/**
+ * 합성 데이터 생성 설정 (같은 seed + 같은 설정이면 빈 DB 에서 항상 같은 데이터가 만들어진다.)
+ */
+@Data
+@ConfigurationProperties(prefix = "app.seed")
+public class SeedProperties {
+
+    // true 면 애플리케이션 시작 시 생성한다. (또는 --seed-data 옵션)
+    private boolean enabled = false;
+
+    // true 면 ApplicationReadyEvent 이후 별도 스레드에서 생성한다. (기동 시간에 포함되지 않음)
+    private boolean async = true;
+
+    private long seed = 42L;
+
+    private int teams = 10;
+    private int members = 1_000;
+    private int items = 500;
+    private int orders = 5_000;
+    private int maxItemsPerOrder = 3;
+
+    // 상품 인기도 Zipf 분포 지수 (클수록 소수 상품에 주문이 몰린다.)
+    private double zipfExponent = 1.0;
+
+    // 카테고리 트리: 노드별 자식 수 / 깊이 (리프 카테고리에 상품을 연결한다.)
+    private int categoryBranching = 3;
+    private int categoryDepth = 3;
+
+    // 주문일은 startDate 부터 days 일 사이에 분포한다. (현재 시각을 쓰지 않아 재현 가능)
+    private LocalDate startDate = LocalDate.of(2024, 1, 1);
+    private int days = 365;
+
+    // JDBC batch 크기 (batch 단위로 커밋)
+    private int batchSize = 1_000;
+}
@@ -0,0 +1,19 @@
+package jpabook.jpashop.service.seed;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+@Getter
+@ToString
+@AllArgsConstructor
+public class SeedResult {
+
+    private final int teams;
+    private final int members;
+    private final int items;
+    private final int categories;
+    private final int orders;
+    private final long orderItems;
+    private final long elapsedMillis;
+}
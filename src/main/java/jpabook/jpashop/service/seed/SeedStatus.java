@@ -0,0 +1,5 @@
+package jpabook.jpashop.service.seed;
+
+public enum SeedStatus {
+    NOT_REQUESTED, RUNNING, COMPLETED, FAILED
+}
@@ -147,10 +147,10 @@ public class QuerydslIntermediateTest {
 
     @Test
     void bulkUpdate() {
-        // 28살 미만 회원은 이름을 "비회원"으로 변경
+        // 25살 미만 회원은 이름 뒤에 "(비회원)"을 붙인다. (username 은 unique 라 같은 이름으로 바꿀 수 없다.)
         long count = query
                 .update(member)
-                .set(member.name, "비회원")
+                .set(member.name, member.name.concat("(비회원)"))
                 .where(member.age.lt(25))
                 .execute();
 
@@ -0,0 +1,141 @@
+package jpabook.jpashop.api;
+
+import jakarta.persistence.EntityManager;
+import jpabook.jpashop.domain.Member;
+import jpabook.jpashop.domain.Team;
+import jpabook.jpashop.repository.member.MemberRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasItem;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+class MemberConditionalGetTest {
+
+    @Autowired
+    MockMvc mockMvc;
+    @Autowired
+    EntityManager em;
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Test
+    void singleMember_notModifiedUntilUpdated() throws Exception {
+        // given
+        Member member = memberRepository.save(new Member("member1"));
+        close();
+        String url = "/api/v1/member/" + member.getId();
+
+        // when
+        String eTag = mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // then: 바뀌지 않았으면 본문 없이 304
+        assertThat(eTag).startsWith("W/");
+        mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+        mockMvc.perform(get("/members/" + member.getId()).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+
+        // 수정되면 lastModifiedDate 가 바뀌어 다시 200
+        memberRepository.findById(member.getId()).orElseThrow().setName("member2");
+        close();
+        mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void searchPage_notModifiedUntilMembersChange() throws Exception {
+        // given
+        memberRepository.save(new Member("member1", 10));
+        close();
+        String url = "/api/v3/search?ageGoe=10&ageLoe=20";
+
+        String eTag = mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+
+        // 조건에 맞는 회원이 추가되면 count 가 바뀐다.
+        memberRepository.save(new Member("member2", 15));
+        close();
+        mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void eTag_variesWithRepresentation() throws Exception {
+        // given
+        memberRepository.save(new Member("member1", 10));
+        close();
+        String url = "/api/v3/search?ageGoe=10&ageLoe=20";
+
+        String jsonETag = mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT)))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // then: JSON 태그로 CBOR 를 요청하면 304 가 아니라 CBOR 본문을 받는다.
+        String cborETag = mockMvc.perform(get(url).accept("application/cbor").header(HttpHeaders.IF_NONE_MATCH, jsonETag))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/cbor"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(cborETag).isNotEqualTo(jsonETag);
+
+        // 같은 표현이면 304 (Vary 는 304 에도 붙는다.)
+        mockMvc.perform(get(url).accept("application/cbor").header(HttpHeaders.IF_NONE_MATCH, cborETag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT)));
+        mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, cborETag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void memberPages_modifiedWhenTeamChanges() throws Exception {
+        // given: 목록 응답에는 팀 이름이 들어간다.
+        Team team = new Team("teamA");
+        em.persist(team);
+        memberRepository.save(new Member("member1", 10, team));
+        close();
+
+        String pageETag = mockMvc.perform(get("/page/members"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        String searchETag = mockMvc.perform(get("/api/v3/search"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // when: 회원은 그대로이고 팀 이름만 바뀐다.
+        em.find(Team.class, team.getId()).updateName("teamB");
+        close();
+
+        // then
+        mockMvc.perform(get("/page/members").header(HttpHeaders.IF_NONE_MATCH, pageETag))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/v3/search").header(HttpHeaders.IF_NONE_MATCH, searchETag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[?(@.name == 'member1')].teamName").value(hasItem("teamB")));
+    }
+
+    private void close() {
+        em.flush();
+        em.clear();
+    }
+}
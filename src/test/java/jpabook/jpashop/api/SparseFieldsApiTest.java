@@ -0,0 +1,80 @@
+package jpabook.jpashop.api;
+
+import jakarta.persistence.EntityManager;
+import jpabook.jpashop.domain.Member;
+import jpabook.jpashop.repository.member.MemberRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+class SparseFieldsApiTest {
+
+    @Autowired
+    MockMvc mockMvc;
+    @Autowired
+    EntityManager em;
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Test
+    void search_allFieldsKeepsNullValues() throws Exception {
+        // given: 팀이 없는 회원
+        memberRepository.save(new Member("sparse-member", 10));
+        close();
+
+        // then: 필드를 지정하지 않으면 V2 와 같이 null 필드도 응답에 있다.
+        mockMvc.perform(get("/api/v3/search?username=sparse-member"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].name").value("sparse-member"))
+                .andExpect(jsonPath("$.content[0]", hasKey("teamId")))
+                .andExpect(jsonPath("$.content[0]", hasKey("teamName")));
+    }
+
+    @Test
+    void search_sparseFieldsWritesOnlyRequested() throws Exception {
+        // given
+        memberRepository.save(new Member("sparse-member", 10));
+        close();
+
+        // then: 지정한 필드만 응답에 쓴다.
+        mockMvc.perform(get("/api/v3/search?username=sparse-member&fields=name,teamName"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].name").value("sparse-member"))
+                .andExpect(jsonPath("$.content[0]", hasKey("teamName")))
+                .andExpect(jsonPath("$.content[0]", not(hasKey("memberId"))))
+                .andExpect(jsonPath("$.content[0]", not(hasKey("age"))))
+                .andExpect(jsonPath("$.totalElements").value(1));
+    }
+
+    @Test
+    void unsupportedParameter_badRequest() throws Exception {
+        mockMvc.perform(get("/api/v3/search?fields=password"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.detail").value("지원하지 않는 필드입니다: password"));
+        mockMvc.perform(get("/api/v5/orders?fields=orderId,password"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v3.2/orders?plan=nope"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.detail").value("unknown fetch plan: nope"));
+        mockMvc.perform(get("/items?dtype=X"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.detail").value("unknown dtype: X"));
+    }
+
+    private void close() {
+        em.flush();
+        em.clear();
+    }
+}
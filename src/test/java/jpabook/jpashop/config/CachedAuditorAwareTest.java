@@ -0,0 +1,59 @@
+package jpabook.jpashop.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CachedAuditorAwareTest {
+
+    private final CachedAuditorAware auditorAware = new CachedAuditorAware();
+
+    @AfterEach
+    void after() {
+        RequestContextHolder.resetRequestAttributes();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void sameAuditorWithinRequest() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        String first = auditorAware.getCurrentAuditor().orElseThrow();
+        String second = auditorAware.getCurrentAuditor().orElseThrow();
+
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        String otherRequest = auditorAware.getCurrentAuditor().orElseThrow();
+
+        assertThat(second).isEqualTo(first);
+        assertThat(otherRequest).isNotEqualTo(first);
+    }
+
+    @Test
+    void sameAuditorWithinTransactionAndReleasedAfterCompletion() {
+        TransactionSynchronizationManager.initSynchronization();
+        String first = auditorAware.getCurrentAuditor().orElseThrow();
+        String second = auditorAware.getCurrentAuditor().orElseThrow();
+
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        TransactionSynchronizationManager.clearSynchronization();
+
+        TransactionSynchronizationManager.initSynchronization();
+        String nextTransaction = auditorAware.getCurrentAuditor().orElseThrow();
+
+        assertThat(second).isEqualTo(first);
+        assertThat(nextTransaction).isNotEqualTo(first);
+    }
+
+    @Test
+    void systemOutsideRequestAndTransaction() {
+        assertThat(auditorAware.getCurrentAuditor()).contains(CachedAuditorAware.SYSTEM);
+    }
+}
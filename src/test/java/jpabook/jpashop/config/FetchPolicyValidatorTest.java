@@ -0,0 +1,35 @@
+package jpabook.jpashop.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class FetchPolicyValidatorTest {
+
+    @Autowired EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void failsOnEagerToOneOutsideAllowList() {
+        FetchPolicyValidator validator = new FetchPolicyValidator(entityManagerFactory, List.of());
+
+        assertThatThrownBy(validator::validate)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Delivery.order")
+                .hasMessageNotContaining("OrderItem.order")
+                .hasMessageNotContaining("Category.parent");
+    }
+
+    @Test
+    void passesWithAllowList() {
+        FetchPolicyValidator validator = new FetchPolicyValidator(entityManagerFactory, List.of("Delivery.order"));
+
+        assertThatCode(validator::validate).doesNotThrowAnyException();
+    }
+}
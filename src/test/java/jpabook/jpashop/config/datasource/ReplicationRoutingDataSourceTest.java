@@ -0,0 +1,93 @@
+package jpabook.jpashop.config.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * H2 인스턴스 두 개를 primary / replica 로 두고 라우팅을 확인한다.
+ */
+class ReplicationRoutingDataSourceTest {
+
+    private static final String NODE_QUERY = "select name from node";
+
+    @AfterEach
+    void after() {
+        ReadYourWritesContext.clear();
+    }
+
+    @Test
+    void readOnlyTransactionGoesToReplica() {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(createRoutingDataSource(Duration.ZERO));
+        TransactionTemplate readOnly = readOnlyTemplate(jdbcTemplate);
+
+        String node = readOnly.execute(status -> jdbcTemplate.queryForObject(NODE_QUERY, String.class));
+
+        assertThat(node).isEqualTo("replica");
+    }
+
+    @Test
+    void writeTransactionGoesToPrimary() {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(createRoutingDataSource(Duration.ZERO));
+        TransactionTemplate readWrite = new TransactionTemplate(
+                new DataSourceTransactionManager(jdbcTemplate.getDataSource()));
+
+        String node = readWrite.execute(status -> jdbcTemplate.queryForObject(NODE_QUERY, String.class));
+
+        assertThat(node).isEqualTo("primary");
+    }
+
+    @Test
+    void readAfterWriteStaysOnPrimaryWithinStickyWindow() {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(createRoutingDataSource(Duration.ofMinutes(1)));
+        TransactionTemplate readWrite = new TransactionTemplate(
+                new DataSourceTransactionManager(jdbcTemplate.getDataSource()));
+        TransactionTemplate readOnly = readOnlyTemplate(jdbcTemplate);
+
+        readWrite.executeWithoutResult(status -> jdbcTemplate.update("update node set name = name"));
+        String node = readOnly.execute(status -> jdbcTemplate.queryForObject(NODE_QUERY, String.class));
+
+        assertThat(node).isEqualTo("primary");
+    }
+
+    private static TransactionTemplate readOnlyTemplate(JdbcTemplate jdbcTemplate) {
+        TransactionTemplate template = new TransactionTemplate(
+                new DataSourceTransactionManager(jdbcTemplate.getDataSource()));
+        template.setReadOnly(true);
+        return template;
+    }
+
+    private static DataSource createRoutingDataSource(Duration stickyWindow) {
+        DataSource primary = createNode("primary");
+        DataSource replica = createNode("replica");
+
+        ReplicationRoutingDataSource routingDataSource = new ReplicationRoutingDataSource(stickyWindow);
+        routingDataSource.setTargetDataSources(Map.of(
+                DataSourceType.PRIMARY, primary,
+                DataSourceType.REPLICA, replica));
+        routingDataSource.setDefaultTargetDataSource(primary);
+        routingDataSource.afterPropertiesSet();
+
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    private static DataSource createNode(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("create table if not exists node (name varchar(20))");
+        jdbcTemplate.update("delete from node");
+        jdbcTemplate.update("insert into node (name) values (?)", name);
+        return dataSource;
+    }
+}
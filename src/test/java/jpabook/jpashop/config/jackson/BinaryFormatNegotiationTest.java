@@ -0,0 +1,97 @@
+package jpabook.jpashop.config.jackson;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jpabook.jpashop.domain.Address;
+import jpabook.jpashop.domain.OrderStatus;
+import jpabook.jpashop.repository.order.query.OrderItemQueryDto;
+import jpabook.jpashop.repository.order.query.OrderQueryDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Accept 헤더로 JSON / CBOR / Smile 을 고르고, 바이너리 포맷이 JSON 보다 작은지 확인한다. (/api/v5/orders 응답과 같은 DTO)
+ * 직렬화 처리량은 BinaryFormatBenchmark 에서 잰다. (./gradlew benchmark)
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class BinaryFormatNegotiationTest {
+
+    @Autowired
+    MockMvc mockMvc;
+    @Autowired
+    ObjectMapper objectMapper;
+    @Autowired
+    MappingJackson2CborHttpMessageConverter cborConverter;
+    @Autowired
+    MappingJackson2SmileHttpMessageConverter smileConverter;
+
+    @Test
+    void negotiatesBinaryFormats() throws Exception {
+        MvcResult cbor = mockMvc.perform(get("/api/v3/search").accept("application/cbor"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/cbor"))
+                .andReturn();
+        Map<String, Object> page = cborConverter.getObjectMapper()
+                .readValue(cbor.getResponse().getContentAsByteArray(), new TypeReference<>() {});
+        assertThat(page).containsKey("content");
+
+        mockMvc.perform(get("/api/v5/orders").accept("application/x-jackson-smile"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-jackson-smile"));
+
+        mockMvc.perform(get("/api/v5/orders"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("application/json"));
+    }
+
+    @Test
+    void binaryFormats_smallerThanJson() throws Exception {
+        List<OrderQueryDto> orders = createOrders(100);
+
+        int json = objectMapper.writeValueAsBytes(orders).length;
+        int cbor = cborConverter.getObjectMapper().writeValueAsBytes(orders).length;
+        int smile = smileConverter.getObjectMapper().writeValueAsBytes(orders).length;
+
+        assertThat(cbor).isLessThan(json);
+        assertThat(smile).isLessThan(json);
+
+        // 날짜는 숫자 배열로 쓰이고 그대로 LocalDateTime 으로 읽힌다.
+        ObjectMapper cborMapper = cborConverter.getObjectMapper();
+        JsonNode first = cborMapper.readTree(cborMapper.writeValueAsBytes(orders)).get(0);
+        assertThat(first.get("orderDate").isArray()).isTrue();
+        assertThat(cborMapper.treeToValue(first.get("orderDate"), LocalDateTime.class))
+                .isEqualTo(orders.get(0).getOrderDate());
+        assertThat(first.get("address").get("city").asText()).isEqualTo("서울");
+    }
+
+    static List<OrderQueryDto> createOrders(int count) {
+        LocalDateTime now = LocalDateTime.of(2024, 5, 1, 12, 30, 15);
+        List<OrderQueryDto> orders = new ArrayList<>();
+        for (long i = 1; i <= count; i++) {
+            List<OrderItemQueryDto> items = List.of(
+                    new OrderItemQueryDto(i, "JPA1 BOOK", 10000, 1),
+                    new OrderItemQueryDto(i, "JPA2 BOOK", 20000, 2));
+            orders.add(new OrderQueryDto(i, "member" + i, now.plusMinutes(i), OrderStatus.ORDER,
+                    new Address("서울", "강가", "123-123"), items));
+        }
+        return orders;
+    }
+}
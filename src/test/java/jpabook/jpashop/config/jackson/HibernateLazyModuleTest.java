@@ -0,0 +1,104 @@
+package jpabook.jpashop.config.jackson;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jpabook.jpashop.config.jackson.LazyAssociations.Mode;
+import jpabook.jpashop.domain.Member;
+import jpabook.jpashop.domain.Team;
+import org.hibernate.Hibernate;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class HibernateLazyModuleTest {
+
+    @Autowired
+    EntityManager em;
+    @Autowired
+    ObjectMapper objectMapper;
+
+    private Long memberId;
+
+    @BeforeEach
+    void before() {
+        Team team = new Team("teamA");
+        em.persist(team);
+        Member member = new Member("member1", 10, team);
+        em.persist(member);
+        memberId = member.getId();
+        close();
+    }
+
+    @AfterEach
+    void after() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void uninitializedProxyIsWrittenAsId() throws Exception {
+        // given
+        Member member = em.find(Member.class, memberId);
+
+        // when
+        JsonNode json = objectMapper.readTree(objectMapper.writeValueAsString(member));
+
+        // then: 지연 로딩 없이 id 만 쓰고, 로딩되지 않은 컬렉션은 생략한다.
+        assertThat(json.get("team").size()).isEqualTo(1);
+        assertThat(json.get("team").get("id").asLong()).isEqualTo(member.getTeam().getId());
+        assertThat(json.has("orders")).isFalse();
+        assertThat(Hibernate.isInitialized(member.getTeam())).isFalse();
+        assertThat(Hibernate.isInitialized(member.getOrders())).isFalse();
+    }
+
+    @Test
+    void uninitializedProxyIsOmittedForOmitEndpoint() throws Exception {
+        // given
+        useMode(Mode.OMIT);
+        Member member = em.find(Member.class, memberId);
+
+        // when
+        JsonNode json = objectMapper.readTree(objectMapper.writeValueAsString(member));
+
+        // then
+        assertThat(json.has("team")).isFalse();
+        assertThat(json.get("name").asText()).isEqualTo("member1");
+        assertThat(Hibernate.isInitialized(member.getTeam())).isFalse();
+    }
+
+    @Test
+    void initializedProxyIsUnwrapped() throws Exception {
+        // given
+        Member member = em.find(Member.class, memberId);
+        Hibernate.initialize(member.getTeam());
+
+        // when
+        JsonNode json = objectMapper.readTree(objectMapper.writeValueAsString(member));
+
+        // then
+        assertThat(json.get("team").get("name").asText()).isEqualTo("teamA");
+        assertThat(json.get("team").has("hibernateLazyInitializer")).isFalse();
+    }
+
+    private static void useMode(Mode mode) {
+        ServletRequestAttributes requestAttributes = new ServletRequestAttributes(new MockHttpServletRequest());
+        requestAttributes.setAttribute(LazyAssociationsAdvice.ATTRIBUTE, mode, RequestAttributes.SCOPE_REQUEST);
+        RequestContextHolder.setRequestAttributes(requestAttributes);
+    }
+
+    private void close() {
+        em.flush();
+        em.clear();
+    }
+}
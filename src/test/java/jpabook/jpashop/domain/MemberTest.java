@@ -3,6 +3,7 @@ package jpabook.jpashop.domain;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManager;
 import jpabook.jpashop.repository.member.MemberRepository;
+import org.hibernate.Hibernate;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -74,6 +75,48 @@ class MemberTest {
         System.out.println("findMember.getLastModifiedBy() = " + findMember.getLastModifiedBy());
     }
 
+    @Test
+    void changeTeam_doesNotLoadTeamMembers() {
+        // given
+        Team teamA = new Team("teamA");
+        em.persist(teamA);
+        em.persist(new Member("member1", 10, teamA));
+        close();
+
+        // when: 로딩되지 않은 team.members 는 건드리지 않는다.
+        Team findTeam = em.find(Team.class, teamA.getId());
+        Member member2 = new Member("member2", 20, findTeam);
+        em.persist(member2);
+
+        // then
+        assertThat(Hibernate.isInitialized(findTeam.getMembers())).isFalse();
+        assertThat(member2.getTeam()).isSameAs(findTeam);
+
+        // 이미 로딩된 컬렉션은 메모리에서도 맞춰준다.
+        Hibernate.initialize(findTeam.getMembers());
+        Member member3 = new Member("member3", 30, findTeam);
+        assertThat(findTeam.getMembers()).contains(member3);
+    }
+
+    @Test
+    void persist_sameAuditorWithinTransaction() {
+        // when: 작성자는 트랜잭션 당 한 번만 만들어진다. (flush 를 나눠도 같다.)
+        for (int i = 0; i < 20; i++) {
+            em.persist(new Member("auditor-member" + i));
+            if ((i + 1) % 5 == 0) {
+                close();
+            }
+        }
+        close();
+
+        // then
+        List<String> auditors = em.createQuery(
+                        "select distinct m.createdBy from Member m where m.name like 'auditor-member%'", String.class)
+                .getResultList();
+        assertThat(auditors).hasSize(1);
+        assertThat(auditors.get(0)).isNotNull();
+    }
+
     private void close() {
         em.flush(); // 강제로 insert 쿼리를 날림
         em.clear(); // 영속성 컨텍스트 초기화
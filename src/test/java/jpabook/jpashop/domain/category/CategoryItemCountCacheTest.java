@@ -0,0 +1,120 @@
+package jpabook.jpashop.domain.category;
+
+import jpabook.jpashop.domain.item.Book;
+import jpabook.jpashop.repository.ItemRepository;
+import jpabook.jpashop.service.CategoryItemCountCache;
+import jpabook.jpashop.service.CategoryService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 커밋 후 증감은 실제 커밋에서만 일어나므로 트랜잭션 없이 실행하고 직접 정리한다.
+ */
+@SpringBootTest
+class CategoryItemCountCacheTest {
+
+    @Autowired CategoryService categoryService;
+    @Autowired CategoryItemCountCache categoryItemCountCache;
+    @Autowired ItemRepository itemRepository;
+    @Autowired JdbcTemplate jdbcTemplate;
+    @Autowired TransactionTemplate transactionTemplate;
+
+    final List<Long> categoryIds = new ArrayList<>();
+    final List<Long> itemIds = new ArrayList<>();
+
+    @BeforeEach
+    void before() {
+        categoryItemCountCache.reset();
+    }
+
+    @AfterEach
+    void after() {
+        for (Long categoryId : categoryIds) {
+            jdbcTemplate.update("delete from category_item where category_id = ?", categoryId);
+        }
+        for (int i = categoryIds.size() - 1; i >= 0; i--) {
+            jdbcTemplate.update("delete from category where category_id = ?", categoryIds.get(i));
+        }
+        itemRepository.deleteAllById(itemIds);
+        categoryItemCountCache.reset();
+    }
+
+    @Test
+    void committed_link_is_applied_incrementally() {
+        // given
+        Long category = createCategory("도서");
+        Long jpa = createBook("JPA");
+        Long novel = createBook("소설");
+        assertThat(categoryItemCountCache.getCount(category)).isZero(); // 적재
+
+        // 캐시를 거치지 않은 연결은 다시 읽지 않는 한 보이지 않는다.
+        jdbcTemplate.update("insert into category_item (category_id, item_id) values (?, ?)", category, novel);
+
+        // when
+        categoryService.linkItem(category, jpa);
+
+        // then: 다시 읽었다면 2, 증감만 반영했다면 1
+        assertThat(categoryItemCountCache.getCount(category)).isEqualTo(1);
+
+        categoryService.unlinkItem(category, jpa);
+        assertThat(categoryItemCountCache.getCount(category)).isZero();
+    }
+
+    @Test
+    void rolled_back_link_is_not_applied() {
+        // given
+        Long category = createCategory("도서");
+        Long jpa = createBook("JPA");
+        assertThat(categoryItemCountCache.getCount(category)).isZero();
+
+        // when
+        transactionTemplate.executeWithoutResult(status -> {
+            categoryService.linkItem(category, jpa);
+            status.setRollbackOnly();
+        });
+
+        // then
+        assertThat(categoryItemCountCache.getCount(category)).isZero();
+        categoryItemCountCache.reset();
+        assertThat(categoryItemCountCache.getCount(category)).isZero();
+    }
+
+    @Test
+    void link_before_load_is_read_from_database() {
+        // given: 적재 전 커밋은 버려지고, 적재 시 group by 결과에 포함된다.
+        Long category = createCategory("도서");
+        Long jpa = createBook("JPA");
+        categoryService.linkItem(category, jpa);
+
+        // when
+        long count = categoryItemCountCache.getCount(category);
+
+        // then
+        assertThat(count).isEqualTo(1);
+        assertThat(categoryService.countItemsPerCategory()).containsEntry(category, 1L);
+    }
+
+    private Long createCategory(String name) {
+        Long id = categoryService.create(name, null);
+        categoryIds.add(id);
+        return id;
+    }
+
+    private Long createBook(String name) {
+        Book book = new Book();
+        book.setName(name);
+        Long id = itemRepository.save(book).getId();
+        itemIds.add(id);
+        return id;
+    }
+}
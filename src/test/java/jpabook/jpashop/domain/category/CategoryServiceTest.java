@@ -0,0 +1,135 @@
+package jpabook.jpashop.domain.category;
+
+import jakarta.persistence.EntityManager;
+import jpabook.jpashop.domain.Category;
+import jpabook.jpashop.domain.item.Book;
+import jpabook.jpashop.repository.ItemRepository;
+import jpabook.jpashop.repository.dto.ItemSummary;
+import jpabook.jpashop.service.CategoryItemCountCache;
+import jpabook.jpashop.service.CategoryService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class CategoryServiceTest {
+
+    @Autowired EntityManager em;
+    @Autowired CategoryService categoryService;
+    @Autowired ItemRepository itemRepository;
+    @Autowired CategoryItemCountCache categoryItemCountCache;
+
+    @AfterEach
+    void after() {
+        // 롤백될 연결이 들어간 스냅샷이 다른 테스트로 새지 않게 한다.
+        categoryItemCountCache.reset();
+    }
+
+    @Test
+    void findSubtree() {
+        // given
+        Long book = categoryService.create("도서", null);
+        Long it = categoryService.create("IT", book);
+        categoryService.create("JPA", it);
+        categoryService.create("소설", book);
+        categoryService.create("음반", null);
+        close();
+
+        // when
+        List<Category> subtree = categoryService.findSubtree(it);
+
+        // then
+        assertThat(subtree)
+                .extracting("name")
+                .containsExactly("IT", "JPA");
+        assertThat(subtree.get(1).getPath()).isEqualTo("/" + book + "/" + it + "/" + subtree.get(1).getId() + "/");
+        assertThat(subtree.get(1).getDepth()).isEqualTo(2);
+    }
+
+    @Test
+    void move() {
+        // given
+        Long book = categoryService.create("도서", null);
+        Long it = categoryService.create("IT", book);
+        Long jpa = categoryService.create("JPA", it);
+        Long music = categoryService.create("음반", null);
+        close();
+
+        // when
+        categoryService.move(it, music);
+        close();
+
+        // then
+        Category moved = em.find(Category.class, jpa);
+        assertThat(moved.getPath()).isEqualTo("/" + music + "/" + it + "/" + jpa + "/");
+        assertThat(categoryService.findSubtree(book))
+                .extracting("name")
+                .containsExactly("도서");
+    }
+
+    @Test
+    void findItemsByCategory() {
+        // given
+        Long book = categoryService.create("도서", null);
+        Long it = categoryService.create("IT", book);
+        Long jpa = createBook("JPA");
+        Long novel = createBook("소설");
+        categoryService.linkItem(it, jpa);
+        categoryService.linkItem(book, jpa);
+        categoryService.linkItem(book, novel);
+        close();
+
+        // when
+        Page<ItemSummary> direct = categoryService.findItemsByCategory(it, false, PageRequest.of(0, 10));
+        Page<ItemSummary> subtree = categoryService.findItemsByCategory(book, true, PageRequest.of(0, 10));
+
+        // then
+        assertThat(direct.getContent()).extracting("name").containsExactly("JPA");
+        assertThat(subtree.getTotalElements()).isEqualTo(2); // 여러 카테고리에 속해도 중복되지 않는다.
+        assertThat(subtree.getContent()).extracting("name").containsExactly("JPA", "소설");
+    }
+
+    @Test
+    void countItemsPerCategory() {
+        // given
+        Long book = categoryService.create("도서", null);
+        Long it = categoryService.create("IT", book);
+        Long music = categoryService.create("음반", null);
+        Long jpa = createBook("JPA");
+        Long novel = createBook("소설");
+        categoryService.linkItem(it, jpa);
+        categoryService.linkItem(book, jpa);
+        categoryService.linkItem(book, novel);
+        categoryService.linkItem(book, novel); // 이미 연결된 상품은 다시 세지 않는다.
+        close();
+        categoryItemCountCache.reset();
+
+        // when
+        Map<Long, Long> counts = categoryService.countItemsPerCategory();
+
+        // then: 직접 연결된 상품만 세고, 상품이 없는 카테고리는 0 으로 나온다. (left join)
+        assertThat(counts).containsEntry(book, 2L).containsEntry(it, 1L).containsEntry(music, 0L);
+        assertThat(categoryItemCountCache.getCount(music)).isZero();
+    }
+
+    private Long createBook(String name) {
+        Book book = new Book();
+        book.setName(name);
+        return itemRepository.save(book).getId();
+    }
+
+    private void close() {
+        em.flush();
+        em.clear();
+    }
+}
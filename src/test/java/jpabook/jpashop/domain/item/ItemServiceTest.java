@@ -0,0 +1,117 @@
+package jpabook.jpashop.domain.item;
+
+import jpabook.jpashop.repository.ItemRepository;
+import jpabook.jpashop.service.ItemService;
+import jpabook.jpashop.service.dto.ItemImportResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 일괄 반영은 batch 단위로 커밋하므로 테스트 트랜잭션 없이 실행하고 직접 정리한다.
+ */
+@SpringBootTest
+class ItemServiceTest {
+
+    @Autowired ItemService itemService;
+    @Autowired ItemRepository itemRepository;
+
+    @AfterEach
+    void after() {
+        itemRepository.deleteAll();
+    }
+
+    @Test
+    void importPriceAndStockCsv() {
+        // given
+        Book book1 = createBook("JPA", 10000, 10);
+        Book book2 = createBook("SPRING", 20000, 20);
+        String csv = "itemId,price,stockQuantity\n" +
+                book1.getId() + ",15000,5\n" +
+                book2.getId() + ",25000,-1\n" +
+                "999999,1000,1\n" +
+                "abc,1000,1\n";
+
+        // when
+        ItemImportResult result = itemService.importPriceAndStockCsv(
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+
+        // then
+        assertThat(result.getTotal()).isEqualTo(4);
+        assertThat(result.getUpdated()).isEqualTo(1);
+        assertThat(result.getFailures())
+                .extracting("line")
+                .containsExactlyInAnyOrder(3L, 4L, 5L);
+
+        Item updated = itemRepository.findById(book1.getId()).orElseThrow();
+        assertThat(updated.getPrice()).isEqualTo(15000);
+        assertThat(updated.getStockQuantity()).isEqualTo(5);
+    }
+
+    @Test
+    void importPriceAndStockJson() {
+        // given
+        Book book = createBook("JPA", 10000, 10);
+        String json = "[{\"itemId\":" + book.getId() + ",\"price\":12000,\"stockQuantity\":7}]";
+
+        // when
+        ItemImportResult result = itemService.importPriceAndStockJson(
+                new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+
+        // then
+        assertThat(result.getUpdated()).isEqualTo(1);
+        assertThat(result.getFailures()).isEmpty();
+        assertThat(itemRepository.findById(book.getId()).orElseThrow().getPrice()).isEqualTo(12000);
+    }
+
+    @Test
+    void importPriceAndStockJson_nonObjectElements() {
+        // given: 객체가 아닌 원소 뒤의 행도 버려지지 않아야 한다.
+        Book book1 = createBook("JPA", 10000, 10);
+        Book book2 = createBook("SPRING", 20000, 20);
+        String json = "[{\"itemId\":" + book1.getId() + ",\"price\":12000,\"stockQuantity\":7}," +
+                " 5, null, [1, 2]," +
+                " {\"itemId\":" + book2.getId() + ",\"price\":22000,\"stockQuantity\":3}]";
+
+        // when
+        ItemImportResult result = itemService.importPriceAndStockJson(
+                new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+
+        // then
+        assertThat(result.getTotal()).isEqualTo(5);
+        assertThat(result.getUpdated()).isEqualTo(2);
+        assertThat(result.getFailures()).extracting("line").containsExactlyInAnyOrder(2L, 3L, 4L);
+        assertThat(itemRepository.findById(book2.getId()).orElseThrow().getPrice()).isEqualTo(22000);
+    }
+
+    @Test
+    void importPriceAndStockCsv_firstLineIsDataWithoutHeader() {
+        // given: 헤더 없이 '-' 로 시작하는 첫 행은 건너뛰지 않고 실패로 보고한다.
+        Book book = createBook("JPA", 10000, 10);
+        String csv = "-1,1000,1\n" +
+                book.getId() + ",15000,5\n";
+
+        // when
+        ItemImportResult result = itemService.importPriceAndStockCsv(
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+
+        // then
+        assertThat(result.getTotal()).isEqualTo(2);
+        assertThat(result.getUpdated()).isEqualTo(1);
+        assertThat(result.getFailures()).extracting("line").containsExactly(1L);
+    }
+
+    private Book createBook(String name, int price, int stockQuantity) {
+        Book book = new Book();
+        book.setName(name);
+        book.setPrice(price);
+        book.setStockQuantity(stockQuantity);
+        return itemRepository.save(book);
+    }
+}
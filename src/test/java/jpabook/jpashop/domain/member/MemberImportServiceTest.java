@@ -0,0 +1,107 @@
+package jpabook.jpashop.domain.member;
+
+import jpabook.jpashop.domain.Member;
+import jpabook.jpashop.repository.member.MemberRepository;
+import jpabook.jpashop.service.MemberImportService;
+import jpabook.jpashop.service.dto.MemberImportResult;
+import jpabook.jpashop.service.dto.MemberImportResult.Status;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * 일괄 등록은 batch 단위로 커밋하므로 테스트 트랜잭션 없이 실행하고,
+ * 다른 테스트의 데이터를 건드리지 않도록 이 테스트가 만든 이름(import- 로 시작)만 정리한다.
+ */
+@SpringBootTest
+class MemberImportServiceTest {
+
+    @Autowired MemberImportService memberImportService;
+    @Autowired MemberRepository memberRepository;
+    @Autowired JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void after() {
+        jdbcTemplate.update("delete from member where username like 'import-%'");
+    }
+
+    @Test
+    void importCsv() {
+        // given
+        memberRepository.save(Member.builder().name("import-kim").build());
+        String csv = "name,age,city,street,zipcode\n" +
+                "import-kim,20,서울,강가,123\n" +
+                "import-lee,30,서울,강가,123\n" +
+                "import-lee,31,,,\n" +
+                ",10,,,\n" +
+                "import-park,abc,,,\n" +
+                "import-choi,,부산,,\n";
+
+        // when
+        MemberImportResult result = memberImportService.importCsv(
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+
+        // then
+        assertThat(result.getTotal()).isEqualTo(6);
+        assertThat(result.getCreated()).isEqualTo(2);
+        assertThat(result.getRows())
+                .extracting("line", "status")
+                .containsExactly(
+                        tuple(2L, Status.DUPLICATE),
+                        tuple(3L, Status.CREATED),
+                        tuple(4L, Status.DUPLICATE),
+                        tuple(5L, Status.INVALID),
+                        tuple(6L, Status.INVALID),
+                        tuple(7L, Status.CREATED));
+
+        Member lee = memberRepository.findByName("import-lee").orElseThrow();
+        assertThat(lee.getAge()).isEqualTo(30);
+        assertThat(lee.getAddress().getCity()).isEqualTo("서울");
+        assertThat(lee.getCreatedBy()).isEqualTo("member-import");
+        assertThat(memberRepository.findByName("import-park")).isEmpty();
+    }
+
+    @Test
+    void importJson() {
+        // given: 객체가 아닌 원소는 INVALID 로 남기고 끝까지 읽는다.
+        String json = "[" +
+                "{\"name\":\"import-json1\",\"age\":20}," +
+                "1," +
+                "[{\"name\":\"import-nested\"}]," +
+                "\"import-text\"," +
+                "{\"name\":\"import-json2\",\"city\":\"서울\"}," +
+                "null," +
+                "{\"name\":\"import-json1\"}" +
+                "]";
+
+        // when
+        MemberImportResult result = memberImportService.importJson(
+                new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+
+        // then
+        assertThat(result.getTotal()).isEqualTo(7);
+        assertThat(result.getCreated()).isEqualTo(2);
+        assertThat(result.getRows())
+                .extracting("line", "status")
+                .containsExactly(
+                        tuple(1L, Status.CREATED),
+                        tuple(2L, Status.INVALID),
+                        tuple(3L, Status.INVALID),
+                        tuple(4L, Status.INVALID),
+                        tuple(5L, Status.CREATED),
+                        tuple(6L, Status.INVALID),
+                        tuple(7L, Status.DUPLICATE));
+
+        assertThat(memberRepository.findByName("import-json1").orElseThrow().getAge()).isEqualTo(20);
+        assertThat(memberRepository.findByName("import-json2").orElseThrow().getAddress().getCity()).isEqualTo("서울");
+        assertThat(memberRepository.findByName("import-nested")).isEmpty();
+    }
+}
@@ -8,9 +8,12 @@ import jpabook.jpashop.domain.Member;
 import jpabook.jpashop.domain.Team;
 import jpabook.jpashop.repository.member.dto.MemberDto;
 import jpabook.jpashop.repository.member.MemberRepository;
+import jpabook.jpashop.repository.SqlCapture;
 import jpabook.jpashop.repository.TeamRepository;
 import jpabook.jpashop.repository.member.dto.MemberSearchCondition;
+import jpabook.jpashop.repository.member.dto.MemberSummary;
 import jpabook.jpashop.repository.member.dto.MemberTeamDto;
+import jpabook.jpashop.repository.support.SparseFields;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -21,12 +24,14 @@ import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.test.annotation.Commit;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 
 import static jpabook.jpashop.domain.QMember.member;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 
 @Transactional
 @SpringBootTest
@@ -279,8 +284,11 @@ class MemberRepositoryTest {
 
     @Test
     void search() {
-        Team teamA = teamRepository.save(new Team("teamA"));
-        Team teamB = teamRepository.save(new Team("teamB"));
+        MemberSearchCondition cond = new MemberSearchCondition();
+        long before = memberRepository.searchComplex(cond, PageRequest.of(0, 1)).getTotalElements();
+
+        Team teamA = teamRepository.save(new Team("search-teamA"));
+        Team teamB = teamRepository.save(new Team("search-teamB"));
 
         memberRepository.save(new Member("member1", 10, teamA));
         memberRepository.save(new Member("member2", 15, teamA));
@@ -288,11 +296,78 @@ class MemberRepositoryTest {
         memberRepository.save(new Member("member4", 25, teamB));
         memberRepository.save(new Member("member5", 30, teamB));
 
-        MemberSearchCondition cond = new MemberSearchCondition();
         PageRequest pageRequest = PageRequest.of(0, 3);
 
         Page<MemberTeamDto> result = memberRepository.searchComplex(cond, pageRequest);
         result.forEach(System.out::println);
+
+        // 필드를 지정하지 않은 검색은 전체 필드를 조회한다. (다른 테스트가 남긴 회원은 건수 / 팀으로 걸러낸다.)
+        Page<MemberTeamDto> all = memberRepository.searchComplex(cond, PageRequest.of(0, (int) before + 5));
+        assertThat(all.getTotalElements()).isEqualTo(before + 5);
+        assertThat(ofTeams(all, teamA, teamB)).extracting("name", "age", "teamName")
+                .containsExactly(
+                        tuple("member1", 10, "search-teamA"), tuple("member2", 15, "search-teamA"),
+                        tuple("member3", 20, "search-teamB"), tuple("member4", 25, "search-teamB"),
+                        tuple("member5", 30, "search-teamB"));
+    }
+
+    @Test
+    void search_sparseFields() {
+        MemberSearchCondition cond = new MemberSearchCondition();
+        long before = memberRepository.searchComplex(cond, PageRequest.of(0, 1)).getTotalElements();
+
+        Team teamA = teamRepository.save(new Team("sparse-teamA"));
+        Team teamB = teamRepository.save(new Team("sparse-teamB"));
+
+        memberRepository.save(new Member("member1", 10, teamA));
+        memberRepository.save(new Member("member2", 15, teamA));
+        memberRepository.save(new Member("member3", 20, teamB));
+
+        SparseFields fields = SparseFields.parse("name,teamId", MemberTeamDto.FIELDS);
+        PageRequest pageRequest = PageRequest.of(0, (int) before + 3);
+
+        // team 조인 없이 member.team_id 만 읽는다.
+        List<Page<MemberTeamDto>> pages = new ArrayList<>();
+        List<String> sql = selects(() -> pages.add(memberRepository.searchComplex(cond, pageRequest, fields)));
+        Page<MemberTeamDto> result = pages.get(0);
+
+        assertThat(sql).isNotEmpty().noneMatch(s -> s.contains("join team"));
+
+        assertThat(result.getTotalElements()).isEqualTo(before + 3);
+        List<MemberTeamDto> mine = ofTeams(result, teamA, teamB);
+        assertThat(mine).extracting("name").containsExactly("member1", "member2", "member3");
+        assertThat(mine).extracting("teamId")
+                .containsExactly(teamA.getId(), teamA.getId(), teamB.getId());
+        assertThat(mine).extracting("memberId", "age", "teamName")
+                .containsOnly(tuple(null, null, null));
+
+        // teamName 을 조회하면 content 쿼리만 조인하고, count 쿼리는 조인하지 않는다.
+        SparseFields withTeamName = SparseFields.parse("name,teamName", MemberTeamDto.FIELDS);
+        sql = selects(() -> memberRepository.searchComplex(new MemberSearchCondition(), PageRequest.of(0, 2), withTeamName));
+        assertThat(sql).hasSize(2);
+        assertThat(sql.get(0)).contains("join team");
+        assertThat(sql.get(1)).doesNotContain("join team");
+
+        // teamName 조건이 있으면 조회 필드와 무관하게 조인한다.
+        cond.setTeamName("sparse-teamB");
+        assertThat(memberRepository.searchComplex(cond, PageRequest.of(0, 3), fields).getContent())
+                .extracting("name").containsExactly("member3");
+    }
+
+    private static List<MemberTeamDto> ofTeams(Page<MemberTeamDto> page, Team... teams) {
+        List<Long> teamIds = Arrays.stream(teams).map(Team::getId).toList();
+        return page.getContent().stream()
+                .filter(dto -> teamIds.contains(dto.getTeamId()))
+                .toList();
+    }
+
+    /**
+     * action 이 보낸 select 만 모은다. (앞서 저장한 엔티티의 insert 는 뺀다.)
+     */
+    private List<String> selects(Runnable action) {
+        return SqlCapture.capture(action).stream()
+                .filter(sql -> sql.startsWith("select"))
+                .toList();
     }
 
     @Test
@@ -311,6 +386,39 @@ class MemberRepositoryTest {
         result.forEach(System.out::println);
     }
 
+    @Test
+    void findSummariesByNamePrefix() {
+        // given
+        memberRepository.save(new Member("kim1"));
+        memberRepository.save(new Member("kim2"));
+        memberRepository.save(new Member("kim3"));
+        memberRepository.save(new Member("lee1"));
+        close();
+
+        // when
+        List<MemberSummary> result = memberRepository.findSummariesByNamePrefix("kim", PageRequest.of(0, 2));
+
+        // then
+        assertThat(result)
+                .extracting("name")
+                .containsExactly("kim1", "kim2");
+    }
+
+    @Test
+    void findSummariesByNamePrefix_escapesWildcards() {
+        // given
+        memberRepository.save(new Member("k_m1"));
+        memberRepository.save(new Member("kim%1"));
+        memberRepository.save(new Member("kimm1"));
+        close();
+
+        // then: _ 와 % 는 글자 그대로 비교한다.
+        assertThat(memberRepository.findSummariesByNamePrefix("k_", PageRequest.of(0, 10)))
+                .extracting("name").containsExactly("k_m1");
+        assertThat(memberRepository.findSummariesByNamePrefix("kim%", PageRequest.of(0, 10)))
+                .extracting("name").containsExactly("kim%1");
+    }
+
     private void close() {
         entityManager.flush();
         entityManager.clear();
@@ -4,13 +4,18 @@ import jakarta.persistence.EntityManager;
 import jpabook.jpashop.domain.Address;
 import jpabook.jpashop.domain.Member;
 import jpabook.jpashop.repository.member.MemberRepository;
+import jpabook.jpashop.repository.member.dto.MemberSummary;
+import jpabook.jpashop.service.MemberNameFilter;
 import jpabook.jpashop.service.MemberService;
+import jpabook.jpashop.service.MemberServiceImpl;
+import org.hibernate.Session;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -95,6 +100,96 @@ class MemberServiceTest {
         assertThat(findMembers.size()).isEqualTo(10);
     }
 
+    @Test
+    void findMemberSummaries() {
+        // given
+        for (int i = 1; i <= 3; i++) {
+            memberService.signUp(Member.builder()
+                    .name("name" + i)
+                    .build());
+        }
+        close();
+
+        // when
+        List<MemberSummary> summaries = memberService.findMemberSummaries();
+
+        // then (프로젝션이므로 영속성 컨텍스트에 엔티티가 올라오지 않는다.)
+        assertThat(summaries)
+                .extracting("name")
+                .containsExactly("name1", "name2", "name3");
+        assertThat(entityManager.unwrap(Session.class).getStatistics().getEntityCount()).isZero();
+    }
+
+    @Test
+    void signUp_duplicateByUniqueIndex() {
+        // given: 필터가 모르는 이름(다른 인스턴스에서 가입한 경우)이라 existsByName 을 건너뛴다.
+        MemberNameFilter filter = new MemberNameFilter(memberRepository, true, 1000, 0.01);
+        filter.warmUp();
+        MemberService service = new MemberServiceImpl(memberRepository, filter);
+        memberRepository.save(Member.builder().name("dup").build());
+
+        // when
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
+                service.signUp(Member.builder().name("dup").build()));
+
+        // then: unique 제약 위반도 같은 비즈니스 예외
+        assertThat(exception.getMessage()).isEqualTo("중복된 이름이 존재합니다.");
+    }
+
+    @Test
+    void update_duplicateByUniqueIndex() {
+        // given: 필터가 모르는 이름으로 바꾸는 경우 (다른 인스턴스에서 가입한 경우)
+        MemberNameFilter filter = new MemberNameFilter(memberRepository, true, 1000, 0.01);
+        filter.warmUp();
+        MemberService service = new MemberServiceImpl(memberRepository, filter);
+        Long id = memberRepository.save(Member.builder().name("rename-me").build()).getId();
+        memberRepository.save(Member.builder().name("taken").build());
+
+        // when
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
+                service.update(id, "taken"));
+
+        // then: 커밋 시점이 아니라 update 에서 같은 비즈니스 예외
+        assertThat(exception.getMessage()).isEqualTo("중복된 이름이 존재합니다.");
+    }
+
+    @Test
+    void memberNameFilter() {
+        // given
+        memberRepository.save(Member.builder().name("exists").build());
+        MemberNameFilter filter = new MemberNameFilter(memberRepository, true, 10_000, 0.01);
+        assertThat(filter.mightExist("anything")).isTrue(); // 워밍업 전
+
+        // when
+        filter.warmUp();
+        filter.add("added");
+
+        // then: 있는 이름은 항상 true, 없는 이름은 대부분 false
+        assertThat(filter.mightExist("exists")).isTrue();
+        assertThat(filter.mightExist("added")).isTrue();
+        long falsePositives = IntStream.range(0, 10_000)
+                .filter(i -> filter.mightExist("absent" + i))
+                .count();
+        assertThat(falsePositives).isLessThan(500);
+    }
+
+    @Test
+    void memberNameFilter_bulkLoad() {
+        // given
+        MemberNameFilter filter = new MemberNameFilter(memberRepository, true, 10_000, 0.01);
+        filter.warmUp();
+
+        // when: 필터를 거치지 않고 들어오는 동안에는 모든 이름이 "있을 수 있음"
+        filter.beginBulkLoad();
+        memberRepository.save(Member.builder().name("bulk-loaded").build());
+        boolean duringLoad = filter.mightExist("bulk-loaded");
+        filter.endBulkLoad();
+
+        // then: 끝나면 적재된 이름으로 다시 채운다.
+        assertThat(duringLoad).isTrue();
+        assertThat(filter.mightExist("bulk-loaded")).isTrue();
+    }
+
     private void close() {
         entityManager.flush();
         entityManager.clear();
@@ -3,19 +3,29 @@ package jpabook.jpashop.domain.order;
 import jakarta.persistence.EntityManager;
 import jpabook.jpashop.domain.Address;
 import jpabook.jpashop.domain.Order;
+import jpabook.jpashop.domain.OrderEventType;
 import jpabook.jpashop.domain.OrderStatus;
+import jpabook.jpashop.domain.OrderSummary;
 import jpabook.jpashop.domain.item.Book;
 import jpabook.jpashop.domain.item.Item;
 import jpabook.jpashop.repository.ItemRepository;
 import jpabook.jpashop.domain.Member;
 import jpabook.jpashop.repository.member.MemberRepository;
 import jpabook.jpashop.exception.NotEnoughStockException;
+import jpabook.jpashop.repository.order.OrderFetchPlan;
 import jpabook.jpashop.repository.order.OrderRepository;
+import jpabook.jpashop.repository.order.summary.OrderSummaryRepository;
+import jpabook.jpashop.repository.outbox.OutboxEventRepository;
 import jpabook.jpashop.service.OrderService;
+import jpabook.jpashop.service.OrderTotalPriceBackfillRunner;
+import org.hibernate.Hibernate;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.transaction.annotation.Transactional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -32,6 +42,12 @@ class OrderServiceTest {
     OrderRepository orderRepository;
     @Autowired
     OrderService orderService;
+    @Autowired
+    OrderSummaryRepository orderSummaryRepository;
+    @Autowired
+    OutboxEventRepository outboxEventRepository;
+    @Autowired
+    OrderTotalPriceBackfillRunner orderTotalPriceBackfillRunner;
 
     @Test
     void success_order() {
@@ -100,6 +116,133 @@ class OrderServiceTest {
         assertThat(item.getStockQuantity()).isEqualTo(stockQuantity);
     }
 
+    @Test
+    void orderSummary() {
+        // given
+        Member member = createMember();
+        Book book = createBook(10000, 10);
+
+        // when
+        Long orderId = orderService.order(member.getId(), book.getId(), 3);
+        close();
+
+        // then
+        OrderSummary summary = orderSummaryRepository.findById(orderId).orElseThrow();
+        assertThat(summary.getMemberName()).isEqualTo("회원");
+        assertThat(summary.getItemCount()).isEqualTo(1);
+        assertThat(summary.getTotalPrice()).isEqualTo(30000);
+        assertThat(summary.getStatus()).isEqualTo(OrderStatus.ORDER);
+
+        orderService.cancelOrder(orderId);
+        close();
+        assertThat(orderSummaryRepository.findById(orderId).orElseThrow().getStatus()).isEqualTo(OrderStatus.CANCEL);
+    }
+
+    @Test
+    void findOrders_fetchPlan() {
+        // given
+        Member member = createMember();
+        Book book = createBook(10000, 10);
+        for (int i = 0; i < 3; i++) {
+            orderService.order(member.getId(), book.getId(), 1);
+        }
+        close();
+
+        // when
+        Page<Order> summary = orderService.findOrders(OrderFetchPlan.SUMMARY, PageRequest.of(0, 2));
+        close();
+        Page<Order> withItems = orderService.findOrders(OrderFetchPlan.WITH_ITEMS, PageRequest.of(0, 2));
+
+        // then
+        assertThat(summary.getContent()).hasSize(2);
+        assertThat(summary.getTotalElements()).isEqualTo(3);
+        Order summaryOrder = summary.getContent().get(0);
+        assertThat(Hibernate.isInitialized(summaryOrder.getMember())).isTrue();
+        assertThat(Hibernate.isInitialized(summaryOrder.getOrderItems())).isFalse();
+
+        Order withItemsOrder = withItems.getContent().get(0);
+        assertThat(Hibernate.isInitialized(withItemsOrder.getOrderItems())).isTrue();
+        assertThat(Hibernate.isInitialized(withItemsOrder.getOrderItems().get(0).getItem())).isTrue();
+    }
+
+    @Test
+    void order_and_cancel_record_outbox_events() {
+        // given
+        Member member = createMember();
+        Book book = createBook(10000, 10);
+
+        // when
+        Long orderId = orderService.order(member.getId(), book.getId(), 1);
+        orderService.cancelOrder(orderId);
+        close();
+
+        // then
+        assertThat(outboxEventRepository.findByAggregateIdOrderById(orderId))
+                .extracting("eventType")
+                .containsExactly(OrderEventType.ORDER_PLACED, OrderEventType.ORDER_CANCELED);
+        assertThat(outboxEventRepository.findByAggregateIdOrderById(orderId))
+                .allMatch(event -> event.getPublishedAt() == null);
+    }
+
+    @Test
+    void totalPrice_persisted_and_backfilled() {
+        // given: 다른 테스트가 남긴 주문이 있어도 이 테스트의 주문만 본다.
+        long sumBefore = orderRepository.sumTotalPrice(OrderStatus.ORDER);
+        Member member = createMember();
+        Book book = createBook(10000, 10);
+        Long first = orderService.order(member.getId(), book.getId(), 1);
+        Long second = orderService.order(member.getId(), book.getId(), 3);
+        orderService.cancelOrder(first);
+        close();
+
+        // then: 컬럼으로 필터 / 정렬 / 합계
+        assertThat(orderRepository.findByTotalPriceGreaterThanEqual(20000, Pageable.unpaged()).getContent())
+                .extracting("id")
+                .contains(second)
+                .doesNotContain(first);
+        assertThat(orderRepository.sumTotalPrice(OrderStatus.ORDER)).isEqualTo(sumBefore + 30000L);
+
+        // when: 컬럼 추가 직후 상태를 만들고 백필
+        entityManager.createNativeQuery("update orders set total_price = 0 where order_id in (:first, :second)")
+                .setParameter("first", first)
+                .setParameter("second", second)
+                .executeUpdate();
+        assertThat(totalPriceOf(first)).isZero();
+        assertThat(totalPriceOf(second)).isZero();
+        orderTotalPriceBackfillRunner.backfill(1);
+        close();
+
+        // then
+        assertThat(totalPriceOf(first)).isEqualTo(10000);
+        assertThat(totalPriceOf(second)).isEqualTo(30000);
+    }
+
+    private int totalPriceOf(Long orderId) {
+        return ((Number) entityManager.createNativeQuery("select total_price from orders where order_id = :orderId")
+                .setParameter("orderId", orderId)
+                .getSingleResult()).intValue();
+    }
+
+    @Test
+    void order_doesNotLoadMemberOrders() {
+        // given
+        Member member = createMember();
+        Book book = createBook(10000, 10);
+        orderService.order(member.getId(), book.getId(), 1);
+        close();
+
+        // when
+        Member findMember = memberRepository.findById(member.getId()).orElseThrow();
+        Long orderId = orderService.order(member.getId(), book.getId(), 1);
+
+        // then: 주문 이력(member.orders)을 로딩하지 않는다.
+        assertThat(Hibernate.isInitialized(findMember.getOrders())).isFalse();
+        close();
+        assertThat(memberRepository.findById(member.getId()).orElseThrow().getOrders())
+                .extracting("id")
+                .contains(orderId);
+    }
+
     private Book createBook(int price, int stockQuantity) {
         Book book = new Book();
         book.setName("시골 JPA");
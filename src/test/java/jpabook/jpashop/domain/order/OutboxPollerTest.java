@@ -0,0 +1,183 @@
+package jpabook.jpashop.domain.order;
+
+import jpabook.jpashop.domain.OrderEventType;
+import jpabook.jpashop.domain.OutboxEvent;
+import jpabook.jpashop.repository.outbox.OutboxEventRepository;
+import jpabook.jpashop.service.outbox.OrderEvent;
+import jpabook.jpashop.service.outbox.OrderEventSubscriber;
+import jpabook.jpashop.service.outbox.OutboxPoller;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 폴러는 커밋된 이벤트만 보므로 트랜잭션 없이 실행하고 직접 정리한다.
+ */
+@SpringBootTest
+class OutboxPollerTest {
+
+    @Autowired OutboxPoller outboxPoller;
+    @Autowired OutboxEventRepository outboxEventRepository;
+    @Autowired RecordingSubscriber subscriber;
+
+    @AfterEach
+    void after() {
+        outboxEventRepository.deleteAll();
+        subscriber.reset();
+    }
+
+    @Test
+    void poll_publishes_events_in_order_per_order_id() {
+        // given
+        outboxEventRepository.save(new OutboxEvent(1L, OrderEventType.ORDER_PLACED, "{}"));
+        outboxEventRepository.save(new OutboxEvent(2L, OrderEventType.ORDER_PLACED, "{}"));
+        outboxEventRepository.save(new OutboxEvent(1L, OrderEventType.ORDER_CANCELED, "{}"));
+
+        // when
+        int published = outboxPoller.poll();
+
+        // then
+        assertThat(published).isEqualTo(3);
+        assertThat(subscriber.eventsOf(1L)).containsExactly(OrderEventType.ORDER_PLACED, OrderEventType.ORDER_CANCELED);
+        assertThat(subscriber.eventsOf(2L)).containsExactly(OrderEventType.ORDER_PLACED);
+        assertThat(outboxEventRepository.findAll()).allMatch(event -> event.getPublishedAt() != null);
+        assertThat(outboxPoller.poll()).isZero();
+    }
+
+    @Test
+    void failed_event_blocks_later_events_of_same_order_and_is_redelivered() {
+        // given
+        outboxEventRepository.save(new OutboxEvent(1L, OrderEventType.ORDER_PLACED, "{}"));
+        outboxEventRepository.save(new OutboxEvent(1L, OrderEventType.ORDER_CANCELED, "{}"));
+        outboxEventRepository.save(new OutboxEvent(2L, OrderEventType.ORDER_PLACED, "{}"));
+        subscriber.failOnce(1L);
+
+        // when
+        int first = outboxPoller.poll();
+        int second = outboxPoller.poll();
+
+        // then
+        assertThat(first).isEqualTo(1); // order 2 만 발행
+        assertThat(second).isEqualTo(2);
+        assertThat(subscriber.eventsOf(1L)).containsExactly(OrderEventType.ORDER_PLACED, OrderEventType.ORDER_CANCELED);
+        List<OutboxEvent> order1 = outboxEventRepository.findByAggregateIdOrderById(1L);
+        assertThat(order1).extracting(OutboxEvent::getAttempts).containsExactly(1, 0); // 건너뛴 이벤트는 시도로 세지 않는다.
+    }
+
+    @Test
+    void failed_event_waits_for_backoff_without_blocking_other_orders() {
+        // given: 재시도 간격 1초, 두 배씩 최대 4초
+        OutboxPoller poller = new OutboxPoller(outboxEventRepository, List.of(subscriber), 100, 2, 10, 1000, 4000);
+        outboxEventRepository.save(new OutboxEvent(1L, OrderEventType.ORDER_PLACED, "{}"));
+        outboxEventRepository.save(new OutboxEvent(1L, OrderEventType.ORDER_CANCELED, "{}"));
+        subscriber.failOnce(1L);
+
+        try {
+            // when
+            LocalDateTime before = LocalDateTime.now();
+            int first = poller.poll();
+            outboxEventRepository.save(new OutboxEvent(2L, OrderEventType.ORDER_PLACED, "{}"));
+            int second = poller.poll();
+
+            // then: 주문 1 은 재시도 시각까지 뒤 이벤트까지 기다리고, 주문 2 는 바로 발행된다.
+            assertThat(first).isZero();
+            assertThat(second).isEqualTo(1);
+            assertThat(subscriber.eventsOf(1L)).isEmpty();
+            assertThat(subscriber.eventsOf(2L)).containsExactly(OrderEventType.ORDER_PLACED);
+            OutboxEvent failed = outboxEventRepository.findByAggregateIdOrderById(1L).get(0);
+            assertThat(failed.getNextAttemptAt()).isAfterOrEqualTo(before.plusSeconds(1));
+            assertThat(failed.getFailedAt()).isNull();
+        } finally {
+            poller.shutdown();
+        }
+    }
+
+    @Test
+    void poison_event_is_parked_after_max_attempts_and_does_not_block_other_orders() {
+        // given: max-attempts 3 (test application.yml)
+        outboxEventRepository.save(new OutboxEvent(1L, OrderEventType.ORDER_PLACED, "{}"));
+        outboxEventRepository.save(new OutboxEvent(1L, OrderEventType.ORDER_CANCELED, "{}"));
+        outboxEventRepository.save(new OutboxEvent(2L, OrderEventType.ORDER_PLACED, "{}"));
+        subscriber.failAlways(1L);
+
+        // when
+        int first = outboxPoller.poll();
+        int second = outboxPoller.poll();
+        int third = outboxPoller.poll();
+        outboxEventRepository.save(new OutboxEvent(3L, OrderEventType.ORDER_PLACED, "{}"));
+        int afterParked = outboxPoller.poll();
+
+        // then
+        assertThat(first).isEqualTo(1);
+        assertThat(second).isZero();
+        assertThat(third).isZero();
+        assertThat(afterParked).isEqualTo(1);
+        assertThat(subscriber.eventsOf(2L)).containsExactly(OrderEventType.ORDER_PLACED);
+        assertThat(subscriber.eventsOf(3L)).containsExactly(OrderEventType.ORDER_PLACED);
+
+        List<OutboxEvent> order1 = outboxEventRepository.findByAggregateIdOrderById(1L);
+        assertThat(order1.get(0).getAttempts()).isEqualTo(3);
+        assertThat(order1.get(0).getFailedAt()).isNotNull();
+        assertThat(order1.get(1).getPublishedAt()).isNull(); // 순서를 지키기 위해 같은 주문의 뒤 이벤트는 함께 멈춘다.
+        assertThat(order1.get(1).getAttempts()).isZero();
+        assertThat(outboxEventRepository.findUnpublished(LocalDateTime.now(), PageRequest.of(0, 10))).isEmpty();
+        assertThat(outboxPoller.poll()).isZero();
+    }
+
+    @TestConfiguration
+    static class SubscriberConfig {
+
+        @Bean
+        RecordingSubscriber recordingSubscriber() {
+            return new RecordingSubscriber();
+        }
+    }
+
+    static class RecordingSubscriber implements OrderEventSubscriber {
+
+        private final List<OrderEvent> events = new CopyOnWriteArrayList<>();
+        private final Set<Long> failOnce = ConcurrentHashMap.newKeySet();
+        private final Set<Long> failAlways = ConcurrentHashMap.newKeySet();
+
+        @Override
+        public void onEvent(OrderEvent event) {
+            if (failOnce.remove(event.getOrderId()) || failAlways.contains(event.getOrderId())) {
+                throw new IllegalStateException("subscriber failure: " + event.getOrderId());
+            }
+            events.add(event);
+        }
+
+        void failOnce(Long orderId) {
+            failOnce.add(orderId);
+        }
+
+        void failAlways(Long orderId) {
+            failAlways.add(orderId);
+        }
+
+        List<OrderEventType> eventsOf(Long orderId) {
+            return events.stream()
+                    .filter(event -> event.getOrderId().equals(orderId))
+                    .map(OrderEvent::getType)
+                    .toList();
+        }
+
+        void reset() {
+            events.clear();
+            failOnce.clear();
+            failAlways.clear();
+        }
+    }
+}
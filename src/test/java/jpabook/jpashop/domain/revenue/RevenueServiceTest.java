@@ -0,0 +1,190 @@
+package jpabook.jpashop.domain.revenue;
+
+import jakarta.persistence.EntityManager;
+import jpabook.jpashop.domain.Address;
+import jpabook.jpashop.domain.Member;
+import jpabook.jpashop.domain.OrderEventType;
+import jpabook.jpashop.domain.OutboxEvent;
+import jpabook.jpashop.domain.item.Book;
+import jpabook.jpashop.repository.ItemRepository;
+import jpabook.jpashop.repository.member.MemberRepository;
+import jpabook.jpashop.repository.outbox.OutboxEventRepository;
+import jpabook.jpashop.repository.revenue.dto.DailyRevenueDto;
+import jpabook.jpashop.repository.revenue.dto.MonthlyRevenueDto;
+import jpabook.jpashop.service.OrderService;
+import jpabook.jpashop.service.RevenueEventSubscriber;
+import jpabook.jpashop.service.RevenueService;
+import jpabook.jpashop.service.outbox.OrderEvent;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * 롤업은 outbox 이벤트로 갱신되므로, 폴러 대신 테스트 트랜잭션 안에서 구독자에게 직접 전달한다.
+ */
+@Transactional
+@SpringBootTest
+class RevenueServiceTest {
+
+    @Autowired EntityManager entityManager;
+    @Autowired MemberRepository memberRepository;
+    @Autowired ItemRepository itemRepository;
+    @Autowired OrderService orderService;
+    @Autowired RevenueService revenueService;
+    @Autowired RevenueEventSubscriber revenueEventSubscriber;
+    @Autowired OutboxEventRepository outboxEventRepository;
+
+    @Test
+    void rollups_follow_order_and_cancel() {
+        // given
+        Member memberA = createMember("회원A");
+        Member memberB = createMember("회원B");
+        Book jpa = createBook("JPA", 10000);
+        Book spring = createBook("SPRING", 20000);
+
+        // when
+        Long first = orderService.order(memberA.getId(), jpa.getId(), 2);      // 20000
+        Long second = orderService.order(memberB.getId(), spring.getId(), 1);   // 20000
+        Long canceled = orderService.order(memberB.getId(), jpa.getId(), 1); // 10000 -> 취소
+        orderService.cancelOrder(canceled);
+        close();
+
+        // 주문 트랜잭션은 롤업을 건드리지 않는다.
+        LocalDate today = LocalDate.now();
+        assertThat(revenueService.findDaily(today, today)).isEmpty();
+
+        deliver(first, second, canceled);
+
+        // then
+        List<DailyRevenueDto> daily = revenueService.findDaily(today, today);
+        assertThat(daily).hasSize(1);
+        assertThat(daily.get(0).getOrderCount()).isEqualTo(2);
+        assertThat(daily.get(0).getQuantity()).isEqualTo(3);
+        assertThat(daily.get(0).getRevenue()).isEqualTo(40000);
+
+        List<MonthlyRevenueDto> monthly = revenueService.findMonthly(YearMonth.now().minusMonths(2), YearMonth.now());
+        assertThat(monthly).hasSize(1);
+        assertThat(monthly.get(0).getMonth()).isEqualTo(today.getMonthValue());
+        assertThat(monthly.get(0).getRevenue()).isEqualTo(40000);
+
+        assertThat(revenueService.findTopItems(today, today, 10))
+                .extracting("itemName", "quantity", "revenue")
+                .containsExactly(
+                        tuple("JPA", 2L, 20000L),
+                        tuple("SPRING", 1L, 20000L));
+        assertThat(revenueService.findTopMembers(today, today, 10))
+                .extracting("memberName", "orderCount", "revenue")
+                .containsExactly(
+                        tuple("회원A", 1L, 20000L),
+                        tuple("회원B", 1L, 20000L));
+
+        assertThat(revenueService.findDaily(today.plusDays(1), today.plusDays(30))).isEmpty();
+    }
+
+    @Test
+    void redelivered_events_are_applied_once() {
+        // given
+        Member member = createMember("회원A");
+        Book jpa = createBook("JPA", 10000);
+        Long orderId = orderService.order(member.getId(), jpa.getId(), 2);
+        close();
+
+        // when: at-least-once 재전달
+        deliver(orderId);
+        deliver(orderId);
+        close();
+
+        // then
+        LocalDate today = LocalDate.now();
+        List<DailyRevenueDto> daily = revenueService.findDaily(today, today);
+        assertThat(daily).extracting("orderCount", "quantity", "revenue")
+                .containsExactly(tuple(1L, 2L, 20000L));
+    }
+
+    @Test
+    void event_of_missing_order_is_skipped() {
+        // when
+        revenueEventSubscriber.onEvent(new OrderEvent(
+                outboxEventRepository.save(new OutboxEvent(Long.MAX_VALUE, OrderEventType.ORDER_PLACED, "{}"))));
+        close();
+
+        // then
+        LocalDate today = LocalDate.now();
+        assertThat(revenueService.findDaily(today, today)).isEmpty();
+    }
+
+    @Test
+    void rebuild_from_orders_and_skip_already_counted_events() {
+        // given: 이벤트를 전달하지 않은 주문 (롤업 도입 전 주문, 누락 복구)
+        Member memberA = createMember("회원A");
+        Member memberB = createMember("회원B");
+        Book jpa = createBook("JPA", 10000);
+        Book spring = createBook("SPRING", 20000);
+        Long first = orderService.order(memberA.getId(), jpa.getId(), 2);
+        Long second = orderService.order(memberB.getId(), spring.getId(), 1);
+        Long canceled = orderService.order(memberB.getId(), jpa.getId(), 1);
+        orderService.cancelOrder(canceled);
+        close();
+
+        // when
+        revenueService.rebuild();
+        close();
+        deliver(first, second, canceled); // 재구성에 이미 포함된 이벤트
+        close();
+
+        // then
+        LocalDate today = LocalDate.now();
+        assertThat(revenueService.findDaily(today, today))
+                .extracting("orderCount", "quantity", "revenue")
+                .containsExactly(tuple(2L, 3L, 40000L));
+        assertThat(revenueService.findTopItems(today, today, 10))
+                .extracting("itemName", "quantity", "revenue")
+                .containsExactly(
+                        tuple("JPA", 2L, 20000L),
+                        tuple("SPRING", 1L, 20000L));
+        assertThat(revenueService.findTopMembers(today, today, 10))
+                .extracting("memberName", "orderCount", "revenue")
+                .containsExactly(
+                        tuple("회원A", 1L, 20000L),
+                        tuple("회원B", 1L, 20000L));
+    }
+
+    /**
+     * 주문별 outbox 이벤트를 저장 순서대로 구독자에게 전달한다. (OutboxPoller 대신)
+     */
+    private void deliver(Long... orderIds) {
+        for (Long orderId : orderIds) {
+            for (OutboxEvent event : outboxEventRepository.findByAggregateIdOrderById(orderId)) {
+                revenueEventSubscriber.onEvent(new OrderEvent(event));
+            }
+        }
+    }
+
+    private Member createMember(String name) {
+        Member member = new Member(name, new Address("서울", "강가", "123-123"));
+        memberRepository.save(member);
+        return member;
+    }
+
+    private Book createBook(String name, int price) {
+        Book book = new Book();
+        book.setName(name);
+        book.setPrice(price);
+        book.setStockQuantity(100);
+        itemRepository.save(book);
+        return book;
+    }
+
+    private void close() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
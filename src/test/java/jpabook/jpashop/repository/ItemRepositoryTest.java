@@ -0,0 +1,64 @@
+package jpabook.jpashop.repository;
+
+import jakarta.persistence.EntityManager;
+import jpabook.jpashop.domain.item.Album;
+import jpabook.jpashop.domain.item.Book;
+import jpabook.jpashop.domain.item.Item;
+import jpabook.jpashop.repository.dto.ItemSummary;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class ItemRepositoryTest {
+
+    @Autowired EntityManager em;
+    @Autowired ItemRepository itemRepository;
+
+    @BeforeEach
+    void before() {
+        itemRepository.save(item(new Book(), "JPA", 20000));
+        itemRepository.save(item(new Book(), "SPRING", 10000));
+        itemRepository.save(item(new Book(), "QUERYDSL", 30000));
+        itemRepository.save(item(new Album(), "ALBUM", 5000));
+
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    void findSummaries_dtypeAndPriceSort() {
+        PageRequest pageRequest = PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "price"));
+
+        Page<ItemSummary> page = itemRepository.findSummaries("Book", pageRequest);
+
+        assertThat(page.getTotalElements()).isEqualTo(3);
+        assertThat(page.getContent())
+                .extracting("name")
+                .containsExactly("QUERYDSL", "JPA");
+    }
+
+    @Test
+    void findSummaries_all() {
+        Page<ItemSummary> page = itemRepository.findSummaries(null, PageRequest.of(0, 10, Sort.by("name")));
+
+        assertThat(page.getContent())
+                .extracting("name")
+                .containsExactly("ALBUM", "JPA", "QUERYDSL", "SPRING");
+    }
+
+    private static Item item(Item item, String name, int price) {
+        item.setName(name);
+        item.setPrice(price);
+        item.setStockQuantity(10);
+        return item;
+    }
+}
@@ -0,0 +1,38 @@
+package jpabook.jpashop.repository;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hibernate 가 실행하는 SQL 을 현재 스레드에서 모은다. (test application.yml 의 statement_inspector)
+ * 생성된 SQL 로 실행 계획이나 조인을 확인할 때 쓴다.
+ */
+public class SqlCapture implements StatementInspector {
+
+    private static final ThreadLocal<List<String>> CAPTURED = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        List<String> captured = CAPTURED.get();
+        if (captured != null) {
+            captured.add(sql);
+        }
+        return sql;
+    }
+
+    /**
+     * action 을 실행하는 동안 나간 SQL 을 순서대로 반환한다.
+     */
+    public static List<String> capture(Runnable action) {
+        List<String> captured = new ArrayList<>();
+        CAPTURED.set(captured);
+        try {
+            action.run();
+            return captured;
+        } finally {
+            CAPTURED.remove();
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package jpabook.jpashop.repository.order;
+
+import jakarta.persistence.EntityManager;
+import jpabook.jpashop.domain.Address;
+import jpabook.jpashop.domain.DeliveryStatus;
+import jpabook.jpashop.domain.Member;
+import jpabook.jpashop.domain.Order;
+import jpabook.jpashop.domain.OrderSearch;
+import jpabook.jpashop.domain.OrderStatus;
+import jpabook.jpashop.domain.item.Book;
+import jpabook.jpashop.repository.ItemRepository;
+import jpabook.jpashop.repository.SqlCapture;
+import jpabook.jpashop.repository.member.MemberRepository;
+import jpabook.jpashop.service.OrderService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.ParameterMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class OrderRepositoryTest {
+
+    @Autowired EntityManager em;
+    @Autowired OrderRepository orderRepository;
+    @Autowired OrderService orderService;
+    @Autowired MemberRepository memberRepository;
+    @Autowired ItemRepository itemRepository;
+    @Autowired JdbcTemplate jdbcTemplate;
+
+    @Test
+    void search_combinedConditions() {
+        // given
+        Member memberA = createMember("회원A");
+        Member memberB = createMember("회원B");
+        Book book = createBook();
+        orderService.order(memberA.getId(), book.getId(), 1);
+        Long large = orderService.order(memberA.getId(), book.getId(), 5);
+        orderService.order(memberB.getId(), book.getId(), 5);
+        Long canceled = orderService.order(memberA.getId(), book.getId(), 5);
+        orderService.cancelOrder(canceled);
+        em.flush();
+        em.clear();
+
+        OrderSearch orderSearch = new OrderSearch();
+        orderSearch.setMemberId(memberA.getId());
+        orderSearch.setOrderStatus(OrderStatus.ORDER);
+        orderSearch.setDeliveryStatus(DeliveryStatus.READY);
+        orderSearch.setMinTotalPrice(30000);
+        orderSearch.setOrderDateFrom(LocalDate.now());
+        orderSearch.setOrderDateTo(LocalDate.now());
+
+        // when
+        List<Order> result = orderRepository.search(orderSearch, 100);
+
+        // then
+        assertThat(result).extracting("id").containsExactly(large);
+
+        orderSearch.setOrderDateFrom(LocalDate.now().plusDays(1));
+        orderSearch.setOrderDateTo(null);
+        assertThat(orderRepository.search(orderSearch, 100)).isEmpty();
+    }
+
+    /**
+     * 자주 쓰는 조건 조합이 의도한 복합 인덱스를 타는지, 검색이 실제로 만든 SQL 의 H2 실행 계획으로 확인한다.
+     */
+    @Test
+    void explain_usesCompositeIndexes() {
+        OrderSearch byMember = new OrderSearch();
+        byMember.setMemberId(1L);
+        byMember.setOrderDateFrom(LocalDate.of(2024, 1, 1));
+        byMember.setOrderDateTo(LocalDate.of(2024, 1, 31));
+        assertThat(explainSearch(byMember)).containsIgnoringCase("IDX_ORDER_MEMBER_DATE");
+
+        OrderSearch byStatus = new OrderSearch();
+        byStatus.setOrderStatus(OrderStatus.ORDER);
+        byStatus.setOrderDateFrom(LocalDate.of(2024, 1, 1));
+        byStatus.setOrderDateTo(LocalDate.of(2024, 1, 31));
+        assertThat(explainSearch(byStatus)).containsIgnoringCase("IDX_ORDER_STATUS_DATE");
+
+        OrderSearch byDate = new OrderSearch();
+        byDate.setOrderDateFrom(LocalDate.of(2024, 1, 1));
+        byDate.setOrderDateTo(LocalDate.of(2024, 1, 31));
+        assertThat(explainSearch(byDate)).containsIgnoringCase("IDX_ORDER_ORDER_DATE");
+
+        OrderSearch byTotalPrice = new OrderSearch();
+        byTotalPrice.setMinTotalPrice(30000);
+        assertThat(explainSearch(byTotalPrice)).containsIgnoringCase("IDX_ORDER_TOTAL_PRICE");
+    }
+
+    /**
+     * 검색이 보낸 select 를 그대로 explain 한다.
+     * H2 는 prepare 시점에 인덱스를 고르므로 파라미터 값(null)은 계획에 영향을 주지 않는다.
+     */
+    private String explainSearch(OrderSearch orderSearch) {
+        List<String> sql = SqlCapture.capture(() -> orderRepository.search(orderSearch, 100));
+        assertThat(sql).hasSize(1);
+        return jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement("explain " + sql.get(0))) {
+                ParameterMetaData parameters = statement.getParameterMetaData();
+                for (int i = 1; i <= parameters.getParameterCount(); i++) {
+                    statement.setNull(i, parameters.getParameterType(i));
+                }
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    resultSet.next();
+                    return resultSet.getString(1);
+                }
+            }
+        });
+    }
+
+    private Member createMember(String name) {
+        Member member = new Member(name, new Address("서울", "강가", "123-123"));
+        memberRepository.save(member);
+        return member;
+    }
+
+    private Book createBook() {
+        Book book = new Book();
+        book.setName("시골 JPA");
+        book.setPrice(10000);
+        book.setStockQuantity(100);
+        itemRepository.save(book);
+        return book;
+    }
+}
@@ -0,0 +1,45 @@
+package jpabook.jpashop.repository.order.query;
+
+import jpabook.jpashop.domain.Address;
+import jpabook.jpashop.domain.OrderStatus;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OrderQueryAssemblerTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.now();
+    private static final Address ADDRESS = new Address("서울", "강가", "123-123");
+
+    @Test
+    void groupByOrder() {
+        List<OrderFlatDto> rows = List.of(
+                row(1L, "JPA1 BOOK"),
+                row(1L, "JPA2 BOOK"),
+                row(2L, "SPRING1 BOOK"),
+                row(3L, "SPRING2 BOOK"),
+                row(3L, "SPRING3 BOOK"));
+
+        List<OrderQueryDto> result = OrderQueryAssembler.groupByOrder(rows);
+
+        assertThat(result).extracting("orderId").containsExactly(1L, 2L, 3L);
+        assertThat(result.get(0).getOrderItems()).extracting("itemName").containsExactly("JPA1 BOOK", "JPA2 BOOK");
+        assertThat(result.get(2).getOrderItems()).hasSize(2);
+    }
+
+    @Test
+    void groupByOrder_unordered() {
+        List<OrderFlatDto> rows = List.of(row(2L, "A"), row(1L, "B"));
+
+        assertThatThrownBy(() -> OrderQueryAssembler.groupByOrder(rows))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static OrderFlatDto row(Long orderId, String itemName) {
+        return new OrderFlatDto(orderId, "userA", NOW, OrderStatus.ORDER, ADDRESS, itemName, 10000, 1);
+    }
+}
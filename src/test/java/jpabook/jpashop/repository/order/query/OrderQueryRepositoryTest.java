@@ -0,0 +1,104 @@
+package jpabook.jpashop.repository.order.query;
+
+import jakarta.persistence.EntityManager;
+import jpabook.jpashop.domain.Address;
+import jpabook.jpashop.domain.Member;
+import jpabook.jpashop.domain.OrderStatus;
+import jpabook.jpashop.domain.item.Book;
+import jpabook.jpashop.exception.UnsupportedParameterException;
+import jpabook.jpashop.repository.ItemRepository;
+import jpabook.jpashop.repository.SqlCapture;
+import jpabook.jpashop.repository.member.MemberRepository;
+import jpabook.jpashop.repository.support.SparseFields;
+import jpabook.jpashop.service.OrderService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@Transactional
+class OrderQueryRepositoryTest {
+
+    @Autowired EntityManager em;
+    @Autowired OrderQueryRepository orderQueryRepository;
+    @Autowired OrderService orderService;
+    @Autowired MemberRepository memberRepository;
+    @Autowired ItemRepository itemRepository;
+
+    @BeforeEach
+    void before() {
+        Member member = new Member("회원A", new Address("서울", "강가", "123-123"));
+        memberRepository.save(member);
+        Book book = new Book();
+        book.setName("시골 JPA");
+        book.setPrice(10000);
+        book.setStockQuantity(100);
+        itemRepository.save(book);
+
+        orderService.order(member.getId(), book.getId(), 1);
+        orderService.order(member.getId(), book.getId(), 2);
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    void findAllByDtoOptimization_allFields() {
+        List<OrderQueryDto> result = orderQueryRepository.findAllByDtoOptimization(0, 100);
+
+        assertThat(result).hasSize(2);
+        assertThat(result).allSatisfy(o -> {
+            assertThat(o.getOrderId()).isNotNull();
+            assertThat(o.getName()).isEqualTo("회원A");
+            assertThat(o.getAddress().getCity()).isEqualTo("서울");
+            assertThat(o.getOrderItems()).extracting("itemName").containsExactly("시골 JPA");
+        });
+    }
+
+    @Test
+    void findAllByDtoOptimization_sparseFields() {
+        SparseFields fields = SparseFields.parse("orderStatus, orderDate", OrderQueryDto.FIELDS);
+
+        List<List<OrderQueryDto>> results = new ArrayList<>();
+        List<String> sql = SqlCapture.capture(() -> results.add(orderQueryRepository.findAllByDtoOptimization(0, 100, fields)));
+        List<OrderQueryDto> result = results.get(0);
+
+        // member / delivery 조인과 orderItems 조회 없이 요청한 필드만 채운다.
+        assertThat(sql).hasSize(1);
+        assertThat(sql.get(0)).doesNotContain("join");
+        assertThat(result).hasSize(2);
+        assertThat(result).allSatisfy(o -> {
+            assertThat(o.getOrderStatus()).isEqualTo(OrderStatus.ORDER);
+            assertThat(o.getOrderDate()).isNotNull();
+            assertThat(o.getOrderId()).isNull();
+            assertThat(o.getName()).isNull();
+            assertThat(o.getAddress()).isNull();
+            assertThat(o.getOrderItems()).isNull();
+        });
+    }
+
+    @Test
+    void findAllByDtoOptimization_sparseFields_joinsOnlyRequested() {
+        SparseFields fields = SparseFields.parse("name,orderItems", OrderQueryDto.FIELDS);
+
+        List<String> sql = SqlCapture.capture(() -> orderQueryRepository.findAllByDtoOptimization(0, 100, fields));
+
+        // name 때문에 member 만 조인하고, orderItems 는 IN 절 쿼리 한 번으로 채운다.
+        assertThat(sql).hasSize(2);
+        assertThat(sql.get(0)).contains("join member").doesNotContain("join delivery");
+        assertThat(sql.get(1)).contains("order_item").contains(" in ");
+    }
+
+    @Test
+    void sparseFields_unknownField() {
+        assertThatThrownBy(() -> SparseFields.parse("orderId,password", OrderQueryDto.FIELDS))
+                .isInstanceOf(UnsupportedParameterException.class);
+    }
+}
@@ -0,0 +1,240 @@
+package jpabook.jpashop.service.seed;
+
+import jpabook.jpashop.repository.member.MemberRepository;
+import jpabook.jpashop.service.CategoryItemCountCache;
+import jpabook.jpashop.service.MemberNameFilter;
+import jpabook.jpashop.service.OrderSummaryService;
+import jpabook.jpashop.service.RevenueService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 생성기는 batch 단위로 커밋하므로 테스트 트랜잭션 없이 실행하고 직접 정리한다.
+ */
+@SpringBootTest
+class SeedDataGeneratorTest {
+
+    @Autowired SeedDataGenerator seedDataGenerator;
+    @Autowired JdbcTemplate jdbcTemplate;
+    @Autowired OrderSummaryService orderSummaryService;
+    @Autowired RevenueService revenueService;
+    @Autowired CategoryItemCountCache categoryItemCountCache;
+    @Autowired MemberRepository memberRepository;
+    @Autowired PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void after() {
+        for (String table : List.of("daily_revenue", "item_daily_revenue", "member_daily_revenue",
+                "order_summary", "order_item", "orders", "delivery", "category_item", "category", "item", "member", "team")) {
+            jdbcTemplate.update("delete from " + table);
+        }
+        categoryItemCountCache.reset();
+    }
+
+    @Test
+    void generate() {
+        // when
+        SeedResult result = seedDataGenerator.generate(properties(7L));
+
+        // then
+        assertThat(count("team")).isEqualTo(3);
+        assertThat(count("member")).isEqualTo(50);
+        assertThat(count("item")).isEqualTo(30);
+        assertThat(count("category")).isEqualTo(2 + 4);
+        assertThat(count("category_item")).isEqualTo(30);
+        assertThat(count("orders")).isEqualTo(300);
+        assertThat(count("order_item")).isEqualTo(result.getOrderItems());
+
+        // 주문 금액 = 주문상품 합계
+        assertThat(jdbcTemplate.queryForObject("select count(*) from orders o where o.total_price <>" +
+                " (select sum(oi.order_price * oi.count) from order_item oi where oi.order_id = o.order_id)", Long.class))
+                .isZero();
+
+        // 상품 인기도가 한쪽으로 몰린다. (Zipf)
+        List<Long> popularity = jdbcTemplate.queryForList("select count(*) from order_item" +
+                " group by item_id order by count(*) desc", Long.class);
+        assertThat(popularity.get(0)).isGreaterThan(popularity.get(popularity.size() / 2) * 3);
+    }
+
+    @Test
+    void sameSeedGeneratesSameData() {
+        // given
+        SeedResult first = seedDataGenerator.generate(properties(7L));
+        long firstRevenue = revenueAfter(0);
+        long firstMaxOrderId = jdbcTemplate.queryForObject("select max(order_id) from orders", Long.class);
+
+        // when: id 만 뒤로 밀리고 나머지는 같아야 한다.
+        SeedResult second = seedDataGenerator.generate(properties(7L));
+        long secondRevenue = revenueAfter(firstMaxOrderId);
+
+        // then
+        assertThat(second.getOrderItems()).isEqualTo(first.getOrderItems());
+        assertThat(secondRevenue).isEqualTo(firstRevenue);
+    }
+
+    @Test
+    void insertDuringGeneration_getsIdOutsideSeedRange() {
+        // given: 첫 batch 를 시작하기 직전에 요청이 IDENTITY 로 팀을 만든다.
+        PlatformTransactionManager interleaving = new PlatformTransactionManager() {
+            private boolean inserted;
+
+            @Override
+            public TransactionStatus getTransaction(TransactionDefinition definition) {
+                if (!inserted) {
+                    inserted = true;
+                    Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+                    jdbcTemplate.update("insert into team (name, created_date, last_modified_date) values ('during-seed', ?, ?)", now, now);
+                }
+                return transactionManager.getTransaction(definition);
+            }
+
+            @Override
+            public void commit(TransactionStatus status) {
+                transactionManager.commit(status);
+            }
+
+            @Override
+            public void rollback(TransactionStatus status) {
+                transactionManager.rollback(status);
+            }
+        };
+
+        // when
+        new SeedDataGenerator(jdbcTemplate, interleaving).generate(properties(7L));
+
+        // then: 생성기가 예약한 구간과 겹치지 않는다.
+        assertThat(count("team")).isEqualTo(3 + 1);
+        Long requestId = jdbcTemplate.queryForObject("select team_id from team where name = 'during-seed'", Long.class);
+        Long maxSeededId = jdbcTemplate.queryForObject("select max(team_id) from team where name <> 'during-seed'", Long.class);
+        assertThat(requestId).isGreaterThan(maxSeededId);
+    }
+
+    @Test
+    void runnerReportsStatusToReadiness() {
+        // given
+        SeedProperties properties = properties(7L);
+        properties.setAsync(false);
+        MemberNameFilter nameFilter = new MemberNameFilter(memberRepository, true, 10_000, 0.01);
+        nameFilter.warmUp(); // 적재 전에 워밍업이 먼저 끝난 경우
+        SeedDataRunner runner = runner(properties, nameFilter);
+        SeedHealthIndicator health = new SeedHealthIndicator(runner);
+        assertThat(runner.getStatus()).isEqualTo(SeedStatus.NOT_REQUESTED);
+
+        // when
+        runner.onReady();
+
+        // then
+        assertThat(runner.getStatus()).isEqualTo(SeedStatus.COMPLETED);
+        assertThat(health.health().getStatus()).isEqualTo(Status.UP);
+        assertDerivedDataRebuilt(nameFilter);
+    }
+
+    @Test
+    void asyncRunnerReportsOutOfServiceUntilCompleted() throws Exception {
+        // given: 생성이 시작되면 멈춰 두고 상태를 확인한다.
+        SeedProperties properties = properties(7L);
+        properties.setAsync(true);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        SeedDataGenerator gated = new SeedDataGenerator(jdbcTemplate, transactionManager) {
+            @Override
+            public SeedResult generate(SeedProperties seedProperties) {
+                started.countDown();
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.generate(seedProperties);
+            }
+        };
+        MemberNameFilter nameFilter = new MemberNameFilter(memberRepository, true, 10_000, 0.01);
+        SeedDataRunner runner = new SeedDataRunner(properties, gated, orderSummaryService, revenueService,
+                categoryItemCountCache, nameFilter, new DefaultApplicationArguments("--seed-data"));
+        SeedHealthIndicator health = new SeedHealthIndicator(runner);
+
+        // when: onReady 는 기다리지 않고 바로 돌아온다.
+        runner.onReady();
+
+        // then
+        assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(runner.getStatus()).isEqualTo(SeedStatus.RUNNING);
+        assertThat(health.health().getStatus()).isEqualTo(Status.OUT_OF_SERVICE);
+        nameFilter.warmUp(); // 적재 중에 워밍업이 끝나도
+        assertThat(nameFilter.mightExist("not-seeded-yet")).isTrue(); // 적재가 끝날 때까지는 조회를 건너뛰지 않는다.
+
+        release.countDown();
+        long deadline = System.currentTimeMillis() + 30_000;
+        while (runner.getStatus() == SeedStatus.RUNNING && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        assertThat(runner.getStatus()).isEqualTo(SeedStatus.COMPLETED);
+        assertThat(health.health().getStatus()).isEqualTo(Status.UP);
+        assertDerivedDataRebuilt(nameFilter);
+    }
+
+    private SeedDataRunner runner(SeedProperties properties, MemberNameFilter nameFilter) {
+        return new SeedDataRunner(properties, seedDataGenerator, orderSummaryService, revenueService,
+                categoryItemCountCache, nameFilter, new DefaultApplicationArguments("--seed-data"));
+    }
+
+    /**
+     * 생성기는 JDBC 로 직접 적재하므로 파생 데이터는 러너가 다시 맞춘다.
+     */
+    private void assertDerivedDataRebuilt(MemberNameFilter nameFilter) {
+        assertThat(count("order_summary")).isEqualTo(300);
+
+        // 매출 롤업 = 취소되지 않은 주문 합계
+        long orderRevenue = jdbcTemplate.queryForObject(
+                "select coalesce(sum(total_price), 0) from orders where order_status = 'ORDER'", Long.class);
+        assertThat(jdbcTemplate.queryForObject("select sum(revenue) from daily_revenue", Long.class)).isEqualTo(orderRevenue);
+        assertThat(jdbcTemplate.queryForObject("select sum(revenue) from item_daily_revenue", Long.class)).isEqualTo(orderRevenue);
+        assertThat(jdbcTemplate.queryForObject("select sum(revenue) from member_daily_revenue", Long.class)).isEqualTo(orderRevenue);
+
+        // 카테고리 상품 수 캐시는 적재된 연결을 다시 읽는다.
+        assertThat(categoryItemCountCache.getCounts().values().stream().mapToLong(Long::longValue).sum())
+                .isEqualTo(count("category_item"));
+
+        // 적재된 이름은 모두 "있을 수 있음" (필터가 중복 조회를 건너뛰지 않는다.)
+        assertThat(jdbcTemplate.queryForList("select username from member", String.class))
+                .hasSize(50)
+                .allMatch(nameFilter::mightExist);
+    }
+
+    private SeedProperties properties(long seed) {
+        SeedProperties properties = new SeedProperties();
+        properties.setSeed(seed);
+        properties.setTeams(3);
+        properties.setMembers(50);
+        properties.setItems(30);
+        properties.setOrders(300);
+        properties.setCategoryBranching(2);
+        properties.setCategoryDepth(2);
+        properties.setBatchSize(40);
+        return properties;
+    }
+
+    private long revenueAfter(long orderId) {
+        return jdbcTemplate.queryForObject("select sum(total_price) from orders where order_id > ?", Long.class, orderId);
+    }
+
+    private long count(String table) {
+        return jdbcTemplate.queryForObject("select count(*) from " + table, Long.class);
+    }
+}